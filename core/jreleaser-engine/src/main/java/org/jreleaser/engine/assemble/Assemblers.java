@@ -100,6 +100,9 @@ public class Assemblers {
             context.getLogger().setPrefix(assembler.getType());
             DistributionAssembler processor = createDistributionAssembler(context, assembler);
             processor.assemble();
+            // assembled files must be visible to later stages
+            context.getFileIndex().invalidate();
+            context.getArtifactMetadata().invalidateAll();
             context.getLogger().restorePrefix();
             context.getLogger().decreaseIndent();
         } catch (AssemblerProcessingException e) {
@@ -21,18 +21,26 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Distribution;
 import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.util.ArtifactMetadataRegistry;
 import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrentUtils;
+import org.jreleaser.util.FileFingerprint;
 import org.jreleaser.util.JReleaserException;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.jreleaser.model.Checksum.KEY_SKIP_CHECKSUM;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -43,34 +51,57 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 public class Checksum {
     public static void collectAndWriteChecksums(JReleaserContext context) throws JReleaserException {
+        collectAndWriteChecksums(context, path -> null);
+    }
+
+    /**
+     * Calculates and writes checksums. The contents of every artifact that has to be read are
+     * also written to the stream returned by {@code contentObserver} for that artifact, if any.
+     * Such streams are always closed, even if reading the artifact fails midway; it is up to them
+     * to discard incomplete contents.
+     */
+    public static void collectAndWriteChecksums(JReleaserContext context, Function<Path, OutputStream> contentObserver) throws JReleaserException {
         context.getLogger().info(RB.$("checksum.header"));
         context.getLogger().increaseIndent();
         context.getLogger().setPrefix("checksum");
 
-        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        Set<Algorithm> algorithms = context.getModel().getChecksum().getAlgorithms();
+        List<ChecksumTarget> targets = new ArrayList<>();
 
         if (context.getModel().getChecksum().isFiles()) {
             for (Artifact artifact : Artifacts.resolveFiles(context)) {
                 if (!artifact.isActive()) continue;
-                artifact.getEffectivePath(context);
+                Path artifactPath = artifact.getEffectivePath(context);
                 if (artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM)) continue;
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
-                }
+                targets.add(new ChecksumTarget(artifact, artifactPath, context.getChecksumsDirectory()));
             }
         }
 
         for (Distribution distribution : context.getModel().getActiveDistributions()) {
             for (Artifact artifact : distribution.getArtifacts()) {
                 if (!artifact.isActive()) continue;
-                artifact.getEffectivePath(context, distribution);
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, distribution, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context, distribution).getFileName());
-                }
+                Path artifactPath = artifact.getEffectivePath(context, distribution);
+                targets.add(new ChecksumTarget(artifact, artifactPath,
+                    context.getChecksumsDirectory().resolve(distribution.getName())));
+            }
+        }
+
+        // hashing is independent per artifact; results are collected in the original order
+        ChecksumCache cache = ChecksumCache.load(context);
+        try {
+            ConcurrentUtils.mapAll("checksum", context.getModel().getChecksum().getParallelism(), targets, target -> {
+                readHashes(context, cache, algorithms, target.artifact, target.artifactPath, target.checksumDirectory, contentObserver);
+                return target;
+            });
+        } finally {
+            cache.save();
+        }
+
+        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        for (ChecksumTarget target : targets) {
+            for (Algorithm algorithm : algorithms) {
+                List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
+                list.add(target.artifact.getHash(algorithm) + "  " + target.artifactPath.getFileName());
             }
         }
 
@@ -109,6 +140,7 @@ public class Checksum {
                 } else {
                     Files.deleteIfExists(checksumsFilePath);
                 }
+                context.getArtifactMetadata().invalidate(checksumsFilePath);
             } catch (IOException e) {
                 throw new JReleaserException(RB.$("ERROR_unexpected_error_checksum", checksumsFilePath.toAbsolutePath()), e);
             }
@@ -119,44 +151,98 @@ public class Checksum {
     }
 
     public static void readHash(JReleaserContext context, Distribution distribution, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        readHashes(context, distribution, Collections.singleton(algorithm), artifact);
+    }
+
+    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        readHashes(context, Collections.singleton(algorithm), artifact);
+    }
+
+    public static void readHashes(JReleaserContext context, Distribution distribution, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context, distribution);
-        Path checksumPath = context.getChecksumsDirectory().resolve(distribution.getName())
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        Path checksumDirectory = context.getChecksumsDirectory().resolve(distribution.getName());
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, null, algorithms, artifact, artifactPath, checksumDirectory, path -> null);
     }
 
-    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+    public static void readHashes(JReleaserContext context, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context);
-        Path checksumPath = context.getChecksumsDirectory()
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        Path checksumDirectory = context.getChecksumsDirectory();
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, null, algorithms, artifact, artifactPath, checksumDirectory, path -> null);
     }
 
-    private static void readHash(JReleaserContext context,
-                                 Algorithm algorithm,
-                                 Artifact artifact,
-                                 Path artifactPath,
-                                 Path checksumPath) throws JReleaserException {
-        if (!Files.exists(artifactPath)) {
+    /**
+     * Single artifact lookups pass a {@code null} cache as loading and saving the persistent
+     * cache costs more than hashing one file.
+     */
+    private static void readHashes(JReleaserContext context,
+                                   ChecksumCache cache,
+                                   Collection<Algorithm> algorithms,
+                                   Artifact artifact,
+                                   Path artifactPath,
+                                   Path checksumDirectory,
+                                   Function<Path, OutputStream> contentObserver) throws JReleaserException {
+        ArtifactMetadataRegistry.Metadata metadata = context.getArtifactMetadata().of(artifactPath);
+        if (!metadata.exists()) {
             throw new JReleaserException(RB.$("ERROR_artifact_does_not_exist", context.relativizeToBasedir(artifactPath)));
         }
 
-        if (!Files.exists(checksumPath)) {
-            context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
-        } else if (artifactPath.toFile().lastModified() > checksumPath.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("checksum.file.newer"),
-                context.relativizeToBasedir(artifactPath),
-                context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
+        FileFingerprint fingerprint = null;
+        Map<Algorithm, String> cached = Collections.emptyMap();
+        if (null != cache) {
+            try {
+                fingerprint = FileFingerprint.of(artifactPath);
+            } catch (IOException e) {
+                throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", artifactPath), e);
+            }
+            cached = cache.get(artifactPath, fingerprint);
         }
 
+        Map<Algorithm, String> hashes = new LinkedHashMap<>();
+        Map<Algorithm, Path> missing = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            Path checksumPath = checksumDirectory.resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+
+            if (cached.containsKey(algorithm)) {
+                String hash = cached.get(algorithm);
+                hashes.put(algorithm, hash);
+                syncHashFile(context, checksumPath, hash);
+            } else {
+                missing.put(algorithm, checksumPath);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            if (null != cache) {
+                context.getLogger().debug(RB.$("checksum.cache.miss"), context.relativizeToBasedir(artifactPath));
+            }
+            // all missing or stale checksums are calculated with a single read
+            Map<Algorithm, String> calculated = calculateHashes(context, artifactPath, missing, contentObserver.apply(artifactPath));
+            if (null != cache) cache.put(artifactPath, fingerprint, calculated);
+            hashes.putAll(calculated);
+        }
+
+        hashes.forEach(artifact::setHash);
+        // later stages ask the registry for digests
+        hashes.forEach(metadata::setDigest);
+    }
+
+    private static void syncHashFile(JReleaserContext context, Path checksumPath, String hash) throws JReleaserException {
         try {
-            context.getLogger().debug(RB.$("checksum.reading"),
-                context.relativizeToBasedir(checksumPath));
-            artifact.setHash(algorithm, new String(Files.readAllBytes(checksumPath)));
+            if (Files.exists(checksumPath)) {
+                context.getLogger().debug(RB.$("checksum.reading"),
+                    context.relativizeToBasedir(checksumPath));
+                if (hash.equals(new String(Files.readAllBytes(checksumPath)))) {
+                    return;
+                }
+            } else {
+                context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
+            }
+
+            Files.createDirectories(checksumPath.getParent());
+            Files.write(checksumPath, hash.getBytes());
+            context.getArtifactMetadata().invalidate(checksumPath);
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error_hash_read", context.relativizeToBasedir(checksumPath)), e);
         }
@@ -167,14 +253,48 @@ public class Checksum {
     }
 
     public static String calculateHash(JReleaserContext context, Path input, Path output, Algorithm algorithm) throws JReleaserException {
+        return calculateHashes(context, input, Collections.singletonMap(algorithm, output)).get(algorithm);
+    }
+
+    public static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Map<Algorithm, Path> outputs) throws JReleaserException {
+        return calculateHashes(context, input, outputs, null);
+    }
+
+    private static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Map<Algorithm, Path> outputs, OutputStream tee) throws JReleaserException {
+        if (outputs.isEmpty()) return Collections.emptyMap();
+
         try {
-            context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
-            String hashcode = ChecksumUtils.checksum(algorithm, Files.readAllBytes(input));
-            output.toFile().getParentFile().mkdirs();
-            Files.write(output, hashcode.getBytes());
-            return hashcode;
+            for (Algorithm algorithm : outputs.keySet()) {
+                context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
+            }
+
+            Map<Algorithm, String> hashcodes;
+            try {
+                hashcodes = ChecksumUtils.checksum(outputs.keySet(), input, tee);
+            } finally {
+                if (null != tee) tee.close();
+            }
+            for (Map.Entry<Algorithm, Path> e : outputs.entrySet()) {
+                Path output = e.getValue();
+                output.toFile().getParentFile().mkdirs();
+                Files.write(output, hashcodes.get(e.getKey()).getBytes());
+                context.getArtifactMetadata().invalidate(output);
+            }
+            return hashcodes;
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", input), e);
         }
     }
+
+    private static class ChecksumTarget {
+        private final Artifact artifact;
+        private final Path artifactPath;
+        private final Path checksumDirectory;
+
+        private ChecksumTarget(Artifact artifact, Path artifactPath, Path checksumDirectory) {
+            this.artifact = artifact;
+            this.artifactPath = artifactPath;
+            this.checksumDirectory = checksumDirectory;
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.checksum;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.FileFingerprint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Persistent index of artifact digests keyed by path and {@link FileFingerprint}.
+ * An entry is only reused while the fingerprint of its file remains the same.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class ChecksumCache {
+    private static final String CACHE_FILE_NAME = "checksums.cache";
+
+    private final JReleaserContext context;
+    private final Path cacheFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private ChecksumCache(JReleaserContext context) {
+        this.context = context;
+        this.cacheFile = context.getOutputDirectory().resolve(CACHE_FILE_NAME);
+    }
+
+    public static ChecksumCache load(JReleaserContext context) {
+        ChecksumCache cache = new ChecksumCache(context);
+        if (!Files.exists(cache.cacheFile)) return cache;
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(cache.cacheFile)) {
+            props.load(in);
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("checksum.cache.read.error"), context.relativizeToBasedir(cache.cacheFile));
+            return cache;
+        }
+
+        for (String key : props.stringPropertyNames()) {
+            Entry entry = Entry.parse(props.getProperty(key));
+            if (null != entry) cache.entries.put(key, entry);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Returns all cached digests for the given file as long as its fingerprint is unchanged.
+     */
+    public Map<Algorithm, String> get(Path path, FileFingerprint fingerprint) {
+        Entry entry = entries.get(keyOf(path));
+        if (null == entry || !entry.fingerprint.equals(fingerprint)) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(entry.digests);
+    }
+
+    public void put(Path path, FileFingerprint fingerprint, Map<Algorithm, String> digests) {
+        String key = keyOf(path);
+        Entry entry = entries.get(key);
+        Map<Algorithm, String> merged = new EnumMap<>(Algorithm.class);
+        if (null != entry && entry.fingerprint.equals(fingerprint)) {
+            merged.putAll(entry.digests);
+        }
+        merged.putAll(digests);
+        entries.put(key, new Entry(fingerprint, merged));
+        dirty = true;
+    }
+
+    public void save() {
+        if (!dirty) return;
+
+        // entries of files that no longer exist are dropped
+        Properties props = new Properties();
+        entries.forEach((key, entry) -> {
+            if (Files.exists(Paths.get(key))) props.setProperty(key, entry.toString());
+        });
+
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path tmp = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            try {
+                Files.move(tmp, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmp, cacheFile, REPLACE_EXISTING);
+            }
+            dirty = false;
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("checksum.cache.write.error"), context.relativizeToBasedir(cacheFile));
+        }
+    }
+
+    private static String keyOf(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    private static class Entry {
+        private final FileFingerprint fingerprint;
+        private final Map<Algorithm, String> digests;
+
+        private Entry(FileFingerprint fingerprint, Map<Algorithm, String> digests) {
+            this.fingerprint = fingerprint;
+            this.digests = digests;
+        }
+
+        private static Entry parse(String str) {
+            int pos = str.lastIndexOf('#');
+            if (pos < 0) return null;
+
+            FileFingerprint fingerprint = FileFingerprint.parse(str.substring(0, pos));
+            if (null == fingerprint) return null;
+
+            Map<Algorithm, String> digests = new EnumMap<>(Algorithm.class);
+            for (String digest : str.substring(pos + 1).split(",")) {
+                String[] parts = digest.split(":", 2);
+                if (parts.length != 2) continue;
+                try {
+                    digests.put(Algorithm.valueOf(parts[0]), parts[1]);
+                } catch (IllegalArgumentException ignored) {
+                    // unknown algorithm, will be recalculated if needed
+                }
+            }
+
+            return new Entry(fingerprint, digests);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder b = new StringBuilder(fingerprint.toString()).append('#');
+            String separator = "";
+            for (Map.Entry<Algorithm, String> e : digests.entrySet()) {
+                b.append(separator).append(e.getKey().name()).append(':').append(e.getValue());
+                separator = ",";
+            }
+            return b.toString();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.engine.checksum.Checksum;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.Signing;
+import org.jreleaser.util.signing.Keyring;
+import org.jreleaser.util.signing.SigningException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calculates checksums and PGP signatures reading every artifact only once.
+ * Signatures produced this way are recorded in the signature ledger, letting
+ * {@link Signer#sign(JReleaserContext)} skip them afterwards.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class Sealer {
+    private static final byte[] PROBE = "jreleaser".getBytes();
+
+    private final JReleaserContext context;
+    private final Signer.SignatureGeneratorPool generators;
+    private final SignatureLedger ledger;
+    private final String keyId;
+    private final Map<Path, Path> signatures = new ConcurrentHashMap<>();
+
+    private Sealer(JReleaserContext context, Signer.SignatureGeneratorPool generators, String keyId) {
+        this.context = context;
+        this.generators = generators;
+        this.keyId = keyId;
+        this.ledger = SignatureLedger.load(context);
+
+        for (Signer.FilePair pair : Signer.collectArtifacts(context, true, pair -> false)) {
+            signatures.put(normalize(pair.getInputFile()), pair.getSignatureFile());
+        }
+    }
+
+    public static void seal(JReleaserContext context) throws SigningException {
+        Sealer sealer = create(context);
+        if (null == sealer) {
+            Checksum.collectAndWriteChecksums(context);
+            return;
+        }
+
+        try {
+            Checksum.collectAndWriteChecksums(context, sealer::open);
+        } finally {
+            sealer.ledger.save();
+        }
+    }
+
+    private static Sealer create(JReleaserContext context) throws SigningException {
+        Signing signing = context.getModel().getSigning();
+        if (!signing.isEnabled() ||
+            signing.getMode() == Signing.Mode.COMMAND ||
+            signing.getMode() == Signing.Mode.COSIGN) {
+            return null;
+        }
+
+        Keyring keyring = context.createKeyring();
+        // also makes sure the BouncyCastle provider has been registered by Signer
+        String keyId = Signer.keyringKeyId(keyring);
+        Signer.SignatureGeneratorPool generators = new Signer.SignatureGeneratorPool(signing, keyring);
+
+        // signatures are not verified by reading the files again, make sure the key pair matches instead
+        if (!isKeyPairValid(generators, keyring.readPublicKey())) {
+            context.getLogger().debug(RB.$("signing.seal.disabled"));
+            return null;
+        }
+
+        return new Sealer(context, generators, keyId);
+    }
+
+    private static boolean isKeyPairValid(Signer.SignatureGeneratorPool generators, PGPPublicKey publicKey) {
+        try {
+            PGPSignatureGenerator signatureGenerator = generators.acquire();
+            signatureGenerator.update(PROBE);
+            PGPSignature signature = signatureGenerator.generate();
+            generators.release(signatureGenerator);
+
+            signature.init(new JcaPGPContentVerifierBuilderProvider()
+                .setProvider(BouncyCastleProvider.PROVIDER_NAME), publicKey);
+            signature.update(PROBE);
+            return signature.verify();
+        } catch (SigningException | PGPException e) {
+            return false;
+        }
+    }
+
+    private OutputStream open(Path input) {
+        // each signature is claimed once, an artifact listed more than once is sealed by its first read only
+        Path signature = signatures.remove(normalize(input));
+        if (null == signature) return null;
+
+        if (Files.exists(signature) && Boolean.TRUE.equals(ledger.lookup(input, signature, keyId))) {
+            return null;
+        }
+
+        try {
+            return new SignatureOutputStream(input, signature, generators.acquire(),
+                context.getArtifactMetadata().of(input).getSize());
+        } catch (SigningException e) {
+            return null;
+        }
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private class SignatureOutputStream extends OutputStream {
+        private final Path input;
+        private final Path signature;
+        private final PGPSignatureGenerator signatureGenerator;
+        private final long size;
+        private long written;
+
+        private SignatureOutputStream(Path input, Path signature, PGPSignatureGenerator signatureGenerator, long size) {
+            this.input = input;
+            this.signature = signature;
+            this.signatureGenerator = signatureGenerator;
+            this.size = size;
+        }
+
+        @Override
+        public void write(int b) {
+            signatureGenerator.update((byte) b);
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            signatureGenerator.update(b, off, len);
+            written += len;
+        }
+
+        @Override
+        public void close() {
+            if (written != size) {
+                // reading the artifact failed midway, the generator holds partial contents
+                // and is dropped instead of being released. Leave it to the signing stage
+                context.getLogger().debug(RB.$("signing.seal.failed"), context.relativizeToBasedir(input));
+                return;
+            }
+
+            try {
+                context.getLogger().debug(RB.$("signing.seal.file"), context.relativizeToBasedir(input));
+                Files.createDirectories(signature.getParent());
+                Signer.writeSignature(context, signatureGenerator, signature);
+                Signer.record(context, ledger, keyId, input, signature, true);
+                generators.release(signatureGenerator);
+            } catch (IOException | PGPException e) {
+                // leave it to the signing stage
+                context.getLogger().debug(RB.$("signing.seal.failed"), context.relativizeToBasedir(input));
+                try {
+                    Files.deleteIfExists(signature);
+                } catch (IOException ignored) {
+                    // OK
+                }
+                context.getArtifactMetadata().invalidate(signature);
+            }
+        }
+    }
+}
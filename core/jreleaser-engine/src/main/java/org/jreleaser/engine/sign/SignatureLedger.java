@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.FileFingerprint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Records the outcome of verifying a signature together with the fingerprints of the
+ * signed file, the signature file and the key used. A recorded result is only trusted
+ * while all three remain the same.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+final class SignatureLedger {
+    private static final String LEDGER_FILE_NAME = "signatures.ledger";
+
+    private final JReleaserContext context;
+    private final Path ledgerFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private SignatureLedger(JReleaserContext context) {
+        this.context = context;
+        this.ledgerFile = context.getSignaturesDirectory().resolve(LEDGER_FILE_NAME);
+    }
+
+    static SignatureLedger load(JReleaserContext context) {
+        SignatureLedger ledger = new SignatureLedger(context);
+        if (!Files.exists(ledger.ledgerFile)) return ledger;
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(ledger.ledgerFile)) {
+            props.load(in);
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("signing.ledger.read.error"), context.relativizeToBasedir(ledger.ledgerFile));
+            return ledger;
+        }
+
+        for (String key : props.stringPropertyNames()) {
+            Entry entry = Entry.parse(props.getProperty(key));
+            if (null != entry) ledger.entries.put(key, entry);
+        }
+
+        return ledger;
+    }
+
+    /**
+     * Returns the recorded verification result or {@code null} if there is no matching record.
+     */
+    Boolean lookup(Path input, Path signature, String keyId) {
+        Entry entry = entries.get(keyOf(input, signature));
+        if (null == entry || !entry.keyId.equals(keyId)) return null;
+
+        try {
+            if (entry.input.equals(FileFingerprint.of(input)) &&
+                entry.signature.equals(FileFingerprint.of(signature))) {
+                return entry.valid;
+            }
+        } catch (IOException ignored) {
+            // file is gone or unreadable, fall back to a full verification
+        }
+
+        return null;
+    }
+
+    void record(Path input, Path signature, String keyId, boolean valid) {
+        String key = keyOf(input, signature);
+        try {
+            entries.put(key, new Entry(FileFingerprint.of(input), FileFingerprint.of(signature), keyId, valid));
+        } catch (IOException e) {
+            entries.remove(key);
+        }
+        dirty = true;
+    }
+
+    void save() {
+        if (!dirty) return;
+
+        Properties props = new Properties();
+        entries.forEach((key, entry) -> props.setProperty(key, entry.toString()));
+
+        try {
+            Files.createDirectories(ledgerFile.getParent());
+            Path tmp = Files.createTempFile(ledgerFile.getParent(), LEDGER_FILE_NAME, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            try {
+                Files.move(tmp, ledgerFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmp, ledgerFile, REPLACE_EXISTING);
+            }
+            dirty = false;
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("signing.ledger.write.error"), context.relativizeToBasedir(ledgerFile));
+        }
+    }
+
+    private static String keyOf(Path input, Path signature) {
+        return input.toAbsolutePath().normalize() + "#" + signature.getFileName();
+    }
+
+    private static class Entry {
+        private final FileFingerprint input;
+        private final FileFingerprint signature;
+        private final String keyId;
+        private final boolean valid;
+
+        private Entry(FileFingerprint input, FileFingerprint signature, String keyId, boolean valid) {
+            this.input = input;
+            this.signature = signature;
+            this.keyId = keyId;
+            this.valid = valid;
+        }
+
+        private static Entry parse(String str) {
+            String[] parts = str.split("#", 4);
+            if (parts.length != 4) return null;
+
+            FileFingerprint input = FileFingerprint.parse(parts[0]);
+            FileFingerprint signature = FileFingerprint.parse(parts[1]);
+            if (null == input || null == signature) return null;
+
+            return new Entry(input, signature, parts[2], Boolean.parseBoolean(parts[3]));
+        }
+
+        @Override
+        public String toString() {
+            return input + "#" + signature + "#" + keyId + "#" + valid;
+        }
+    }
+}
@@ -40,6 +40,8 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Signing;
 import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.command.CommandException;
 import org.jreleaser.util.signing.GpgCommandSigner;
 import org.jreleaser.util.signing.Keyring;
@@ -47,8 +49,6 @@ import org.jreleaser.util.signing.SigningException;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -57,6 +57,8 @@ import java.nio.file.Path;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -69,6 +71,9 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 public class Signer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
     static {
         // replace BC provider with our version
         Security.removeProvider(BouncyCastleProvider.PROVIDER_NAME);
@@ -99,7 +104,12 @@ public class Signer {
     }
 
     private static void cmdSign(JReleaserContext context) throws SigningException {
-        List<FilePair> files = collectArtifacts(context, pair -> isValid(context, null, pair));
+        SignatureLedger ledger = SignatureLedger.load(context);
+        String keyId = commandKeyId(context);
+
+        List<FilePair> files = collectArtifacts(context, pair -> isValid(context, ledger, keyId, pair,
+            p -> isValid(context, null, p)));
+        ledger.save();
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             context.getLogger().restorePrefix();
@@ -120,6 +130,7 @@ public class Signer {
 
         sign(context, files);
         verify(context, files);
+        record(context, ledger, keyId, files);
     }
 
     private static void cosignSign(JReleaserContext context) throws SigningException {
@@ -149,7 +160,12 @@ public class Signer {
         }
         Path thePublicKeyFile = publicKeyFile;
 
-        List<FilePair> files = collectArtifacts(context, forceSign, pair -> isValid(context, cosign, thePublicKeyFile, pair));
+        SignatureLedger ledger = SignatureLedger.load(context);
+        String keyId = cosignKeyId(publicKeyFile);
+
+        List<FilePair> files = collectArtifacts(context, forceSign, pair -> isValid(context, ledger, keyId, pair,
+            p -> isValid(context, cosign, thePublicKeyFile, p)));
+        ledger.save();
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             context.getLogger().restorePrefix();
@@ -175,12 +191,18 @@ public class Signer {
 
         sign(context, files, cosign, privateKeyFile, password);
         verify(context, files, cosign, publicKeyFile);
+        record(context, ledger, keyId, files);
     }
 
     private static void bcSign(JReleaserContext context) throws SigningException {
         Keyring keyring = context.createKeyring();
 
-        List<FilePair> files = collectArtifacts(context, pair -> isValid(context, keyring, pair));
+        SignatureLedger ledger = SignatureLedger.load(context);
+        String keyId = keyringKeyId(keyring);
+
+        List<FilePair> files = collectArtifacts(context, pair -> isValid(context, ledger, keyId, pair,
+            p -> isValid(context, keyring, p)));
+        ledger.save();
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             context.getLogger().restorePrefix();
@@ -201,6 +223,51 @@ public class Signer {
 
         sign(context, keyring, files);
         verify(context, keyring, files);
+        record(context, ledger, keyId, files);
+    }
+
+    private static String commandKeyId(JReleaserContext context) {
+        // key names and gpg defaults may point to different keys over time, only fingerprints identify
+        // the key material. Without them the ledger is bypassed and signatures are always verified
+        try {
+            List<String> fingerprints = initCommandSigner(context).fingerprints();
+            return null != fingerprints ? "gpg:" + String.join(",", fingerprints) : null;
+        } catch (CommandException e) {
+            context.getLogger().trace(e);
+            return null;
+        }
+    }
+
+    private static String cosignKeyId(Path publicKeyFile) {
+        if (null == publicKeyFile || !Files.exists(publicKeyFile)) {
+            return "cosign:none";
+        }
+
+        try {
+            return "cosign:" + ChecksumUtils.checksum(Algorithm.SHA_256, publicKeyFile);
+        } catch (IOException e) {
+            return "cosign:" + publicKeyFile.toAbsolutePath().toString().replace('#', '_');
+        }
+    }
+
+    static String keyringKeyId(Keyring keyring) throws SigningException {
+        return "pgp:" + Long.toHexString(keyring.readPublicKey().getKeyID());
+    }
+
+    private static void record(JReleaserContext context, SignatureLedger ledger, String keyId, List<FilePair> files) {
+        for (FilePair pair : files) {
+            record(context, ledger, keyId, pair.inputFile, pair.signatureFile, pair.isValid());
+        }
+        ledger.save();
+    }
+
+    /**
+     * Records a freshly written signature. Cached metadata of the signature file is dropped as it has changed.
+     */
+    static void record(JReleaserContext context, SignatureLedger ledger, String keyId,
+                       Path input, Path signature, boolean valid) {
+        if (null != keyId) ledger.record(input, signature, keyId, valid);
+        context.getArtifactMetadata().invalidate(signature);
     }
 
     private static void verify(JReleaserContext context, Keyring keyring, List<FilePair> files) throws SigningException {
@@ -211,9 +278,16 @@ public class Signer {
 
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
-        for (FilePair pair : files) {
-            pair.setValid(verify(context, keyring, pair));
+        PGPPublicKey publicKey = keyring.readPublicKey();
+
+        context.getLogger().setPrefix("verify");
+        try {
+            forEach(context, files, pair -> pair.setValid(verify(context, keyring, publicKey, pair)));
+        } finally {
+            context.getLogger().restorePrefix();
+        }
 
+        for (FilePair pair : files) {
             if (!pair.isValid()) {
                 throw new SigningException(RB.$("ERROR_signing_verify_file",
                     context.relativizeToBasedir(pair.inputFile),
@@ -239,46 +313,45 @@ public class Signer {
     private static boolean verify(JReleaserContext context, Keyring keyring, FilePair filePair) throws SigningException {
         context.getLogger().setPrefix("verify");
 
+        try {
+            return verify(context, keyring, keyring.readPublicKey(), filePair);
+        } finally {
+            context.getLogger().restorePrefix();
+        }
+    }
+
+    private static boolean verify(JReleaserContext context, Keyring keyring, PGPPublicKey publicKey, FilePair filePair) throws SigningException {
         try {
             context.getLogger().debug("{}",
                 context.relativizeToBasedir(filePair.signatureFile));
 
-            InputStream sigInputStream = PGPUtil.getDecoderStream(
-                new BufferedInputStream(
-                    new FileInputStream(filePair.signatureFile.toFile())));
-
-            PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
-            Iterable<?> pgpSigList = null;
+            PGPSignature sig;
+            try (InputStream sigInputStream = PGPUtil.getDecoderStream(
+                new BufferedInputStream(Files.newInputStream(filePair.signatureFile)))) {
+                PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
+                Iterable<?> pgpSigList = null;
+
+                Object obj = pgpObjFactory.nextObject();
+                if (obj instanceof PGPCompressedData) {
+                    PGPCompressedData c1 = (PGPCompressedData) obj;
+                    pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
+                    pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
+                } else {
+                    pgpSigList = (Iterable<?>) obj;
+                }
 
-            Object obj = pgpObjFactory.nextObject();
-            if (obj instanceof PGPCompressedData) {
-                PGPCompressedData c1 = (PGPCompressedData) obj;
-                pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
-                pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
-            } else {
-                pgpSigList = (Iterable<?>) obj;
+                sig = (PGPSignature) pgpSigList.iterator().next();
             }
 
-            InputStream fileInputStream = new BufferedInputStream(new FileInputStream(filePair.inputFile.toFile()));
-            PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
-            PGPPublicKey pubKey = keyring.readPublicKey();
             sig.init(new JcaPGPContentVerifierBuilderProvider()
-                .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
-
-            int ch;
-            while ((ch = fileInputStream.read()) >= 0) {
-                sig.update((byte) ch);
-            }
+                .setProvider(BouncyCastleProvider.PROVIDER_NAME), publicKey);
 
-            fileInputStream.close();
-            sigInputStream.close();
+            update(filePair.inputFile, sig::update);
 
             return sig.verify();
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -392,62 +465,66 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        PGPSignatureGenerator signatureGenerator = initSignatureGenerator(context.getModel().getSigning(), keyring);
+        SignatureGeneratorPool generators = new SignatureGeneratorPool(context.getModel().getSigning(), keyring);
 
-        for (FilePair pair : files) {
+        forEach(context, files, pair -> {
+            PGPSignatureGenerator signatureGenerator = generators.acquire();
             sign(context, signatureGenerator, pair.inputFile, pair.signatureFile);
-        }
+            generators.release(signatureGenerator);
+        });
     }
 
-    private static PGPSignatureGenerator initSignatureGenerator(Signing signing, Keyring keyring) throws SigningException {
+    private static void sign(JReleaserContext context, PGPSignatureGenerator signatureGenerator, Path input, Path output) throws SigningException {
         try {
-            PGPSecretKey pgpSecretKey = keyring.getSecretKey();
-
-            PGPPrivateKey pgpPrivKey = pgpSecretKey.extractPrivateKey(
-                new JcePBESecretKeyDecryptorBuilder()
-                    .setProvider(BouncyCastleProvider.PROVIDER_NAME)
-                    .build(signing.getResolvedPassphrase().toCharArray()));
-
-            PGPSignatureGenerator signatureGenerator = new PGPSignatureGenerator(
-                new JcaPGPContentSignerBuilder(pgpSecretKey.getPublicKey().getAlgorithm(), PGPUtil.SHA1)
-                    .setProvider(BouncyCastleProvider.PROVIDER_NAME));
-
-            signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, pgpPrivKey);
+            context.getLogger().info("{}", context.relativizeToBasedir(input));
 
-            return signatureGenerator;
-        } catch (PGPException e) {
-            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+            update(input, signatureGenerator::update);
+            writeSignature(context, signatureGenerator, output);
+        } catch (IOException | PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
         }
     }
 
-    private static void sign(JReleaserContext context, PGPSignatureGenerator signatureGenerator, Path input, Path output) throws SigningException {
-        try {
-            context.getLogger().info("{}", context.relativizeToBasedir(input));
+    static void writeSignature(JReleaserContext context, PGPSignatureGenerator signatureGenerator, Path output) throws IOException, PGPException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(output));
+        if (context.getModel().getSigning().isArmored()) {
+            out = new ArmoredOutputStream(out);
+        }
 
-            OutputStream out = new BufferedOutputStream(new FileOutputStream(output.toFile()));
-            if (context.getModel().getSigning().isArmored()) {
-                out = new ArmoredOutputStream(out);
-            }
+        PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
+        BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
 
-            PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
-            BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
+        signatureGenerator.generate().encode(bOut);
 
-            FileInputStream in = new FileInputStream(input.toFile());
+        compressionStreamGenerator.close();
 
-            int ch;
-            while ((ch = in.read()) >= 0) {
-                signatureGenerator.update((byte) ch);
-            }
+        out.flush();
+        out.close();
+    }
 
-            signatureGenerator.generate().encode(bOut);
+    private static void forEach(JReleaserContext context, List<FilePair> files, SigningTask task) throws SigningException {
+        try {
+            ConcurrentUtils.mapAll("sign", context.getModel().getSigning().getParallelism(), files, pair -> {
+                try {
+                    task.execute(pair);
+                    return pair;
+                } catch (SigningException e) {
+                    throw new SigningFailure(e);
+                }
+            });
+        } catch (SigningFailure e) {
+            throw e.getCause();
+        }
+    }
 
-            compressionStreamGenerator.close();
+    private static void update(Path input, SignatureUpdater updater) throws IOException {
+        byte[] buffer = BUFFER.get();
 
-            in.close();
-            out.flush();
-            out.close();
-        } catch (IOException | PGPException e) {
-            throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
+        try (InputStream in = Files.newInputStream(input)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                updater.update(buffer, 0, read);
+            }
         }
     }
 
@@ -455,7 +532,7 @@ public class Signer {
         return collectArtifacts(context, false, validator);
     }
 
-    private static List<FilePair> collectArtifacts(JReleaserContext context, boolean forceSign, Function<FilePair, Boolean> validator) {
+    static List<FilePair> collectArtifacts(JReleaserContext context, boolean forceSign, Function<FilePair, Boolean> validator) {
         List<FilePair> files = new ArrayList<>();
 
         Signing signing = context.getModel().getSigning();
@@ -507,6 +584,26 @@ public class Signer {
         return files;
     }
 
+    private static boolean isValid(JReleaserContext context, SignatureLedger ledger, String keyId, FilePair pair,
+                                   Function<FilePair, Boolean> validator) {
+        if (null == keyId) return validator.apply(pair);
+
+        if (Files.exists(pair.signatureFile)) {
+            Boolean valid = ledger.lookup(pair.inputFile, pair.signatureFile, keyId);
+            if (null != valid) {
+                context.getLogger().debug(RB.$("signing.ledger.hit"),
+                    context.relativizeToBasedir(pair.signatureFile));
+                return valid;
+            }
+        }
+
+        boolean valid = validator.apply(pair);
+        if (Files.exists(pair.signatureFile)) {
+            ledger.record(pair.inputFile, pair.signatureFile, keyId, valid);
+        }
+        return valid;
+    }
+
     private static boolean isValid(JReleaserContext context, Cosign cosign, Path publicKeyFile, FilePair pair) {
         if (Files.notExists(pair.getSignatureFile())) {
             context.getLogger().debug(RB.$("signing.signature.not.exist"),
@@ -575,7 +672,7 @@ public class Signer {
         }
     }
 
-    private static class FilePair {
+    static class FilePair {
         private final Path inputFile;
         private final Path signatureFile;
         private boolean valid;
@@ -605,4 +702,70 @@ public class Signer {
             return !valid;
         }
     }
+
+    @FunctionalInterface
+    private interface SignatureUpdater {
+        void update(byte[] data, int offset, int length);
+    }
+
+    @FunctionalInterface
+    private interface SigningTask {
+        void execute(FilePair pair) throws SigningException;
+    }
+
+    private static class SigningFailure extends RuntimeException {
+        private SigningFailure(SigningException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SigningException getCause() {
+            return (SigningException) super.getCause();
+        }
+    }
+
+    /**
+     * {@code PGPSignatureGenerator} is stateful, each concurrent signing task borrows its own instance.
+     * The private key is extracted only once and shared by all generators.
+     */
+    static class SignatureGeneratorPool {
+        private final Queue<PGPSignatureGenerator> generators = new ConcurrentLinkedQueue<>();
+        private final PGPPrivateKey privateKey;
+        private final int keyAlgorithm;
+
+        SignatureGeneratorPool(Signing signing, Keyring keyring) throws SigningException {
+            try {
+                PGPSecretKey pgpSecretKey = keyring.getSecretKey();
+
+                this.privateKey = pgpSecretKey.extractPrivateKey(
+                    new JcePBESecretKeyDecryptorBuilder()
+                        .setProvider(BouncyCastleProvider.PROVIDER_NAME)
+                        .build(signing.getResolvedPassphrase().toCharArray()));
+                this.keyAlgorithm = pgpSecretKey.getPublicKey().getAlgorithm();
+            } catch (PGPException e) {
+                throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+            }
+        }
+
+        PGPSignatureGenerator acquire() throws SigningException {
+            PGPSignatureGenerator signatureGenerator = generators.poll();
+            if (null != signatureGenerator) return signatureGenerator;
+
+            try {
+                signatureGenerator = new PGPSignatureGenerator(
+                    new JcaPGPContentSignerBuilder(keyAlgorithm, PGPUtil.SHA1)
+                        .setProvider(BouncyCastleProvider.PROVIDER_NAME));
+
+                signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, privateKey);
+
+                return signatureGenerator;
+            } catch (PGPException e) {
+                throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+            }
+        }
+
+        void release(PGPSignatureGenerator signatureGenerator) {
+            generators.offer(signatureGenerator);
+        }
+    }
 }
@@ -22,8 +22,10 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Upload;
 import org.jreleaser.model.Uploader;
 import org.jreleaser.model.uploader.spi.UploadException;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.JReleaserException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +43,7 @@ public class Uploaders {
             return;
         }
 
+        List<Uploader> selected = new ArrayList<>();
         if (!context.getIncludedUploaderTypes().isEmpty()) {
             for (String uploaderType : context.getIncludedUploaderTypes()) {
                 // check if the uploaderType is valid
@@ -72,11 +75,11 @@ public class Uploaders {
                         context.getLogger().info(RB.$("uploaders.upload.with"),
                             uploaderType,
                             uploaderName);
-                        upload(context, uploader);
+                        selected.add(uploader);
                     }
                 } else {
                     context.getLogger().info(RB.$("uploaders.upload.all.artifacts.with"), uploaderType);
-                    uploaders.values().forEach(uploader -> upload(context, uploader));
+                    selected.addAll(uploaders.values());
                 }
             }
         } else if (!context.getIncludedUploaderNames().isEmpty()) {
@@ -87,7 +90,7 @@ public class Uploaders {
 
                 if (!filteredUploaders.isEmpty()) {
                     context.getLogger().info(RB.$("uploaders.upload.all.artifacts.to"), uploaderName);
-                    filteredUploaders.forEach(uploader -> upload(context, uploader));
+                    selected.addAll(filteredUploaders);
                 } else {
                     context.getLogger().warn(RB.$("uploaders.uploader.not.configured2"), uploaderName);
                 }
@@ -104,24 +107,62 @@ public class Uploaders {
                     continue;
                 }
 
-                upload(context, uploader);
+                selected.add(uploader);
             }
         }
+
+        upload(context, selected, upload.getParallelism());
+    }
+
+    private static void upload(JReleaserContext context, List<Uploader> uploaders, int parallelism) {
+        if (parallelism <= 1 || uploaders.size() <= 1) {
+            uploaders.forEach(uploader -> upload(context, uploader));
+            return;
+        }
+
+        // every uploader runs to completion, failures are reported together afterwards
+        List<UploadException> failures = ConcurrentUtils.mapAll("uploader", parallelism, uploaders,
+            uploader -> {
+                try {
+                    doUpload(context, uploader);
+                    return null;
+                } catch (UploadException e) {
+                    context.getLogger().error(RB.$("uploaders.uploader.failed"), uploader.getType(), uploader.getName());
+                    context.getLogger().trace(e);
+                    return e;
+                }
+            });
+
+        JReleaserException exception = null;
+        for (UploadException failure : failures) {
+            if (null == failure) continue;
+            if (null == exception) {
+                exception = new JReleaserException(RB.$("ERROR_unexpected_error"), failure);
+            } else {
+                exception.addSuppressed(failure);
+            }
+        }
+
+        if (null != exception) throw exception;
     }
 
     private static void upload(JReleaserContext context, Uploader uploader) {
         try {
-            context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(uploader.getType());
-            ProjectUploader projectUploader = createProjectUploader(context, uploader);
-            projectUploader.upload();
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
+            doUpload(context, uploader);
         } catch (UploadException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
         }
     }
 
+    private static void doUpload(JReleaserContext context, Uploader uploader) throws UploadException {
+        context.getLogger().increaseIndent();
+        context.getLogger().setPrefix(uploader.getType());
+        ProjectUploader projectUploader = createProjectUploader(context, uploader);
+        projectUploader.upload();
+        context.getLogger().restorePrefix();
+        context.getLogger().decreaseIndent();
+    }
+
     private static ProjectUploader createProjectUploader(JReleaserContext context,
                                                          Uploader uploader) {
         return ProjectUploader.builder()
@@ -50,6 +50,7 @@ abstract class AbstractUploader implements Uploader {
     private Boolean files;
     private Boolean signatures;
     private Boolean checksums;
+    private int parallelism;
 
     protected AbstractUploader(String type) {
         this.type = type;
@@ -65,6 +66,7 @@ abstract class AbstractUploader implements Uploader {
         this.files = uploader.files;
         this.signatures = uploader.signatures;
         this.checksums = uploader.checksums;
+        this.parallelism = uploader.parallelism;
         setExtraProperties(uploader.extraProperties);
     }
 
@@ -230,6 +232,16 @@ abstract class AbstractUploader implements Uploader {
         this.checksums = checksums;
     }
 
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         if (!full && !isEnabled()) return Collections.emptyMap();
@@ -243,6 +255,7 @@ abstract class AbstractUploader implements Uploader {
         props.put("files", isFiles());
         props.put("signatures", isSignatures());
         props.put("checksums", isChecksums());
+        props.put("parallelism", parallelism);
         asMap(props, full);
         props.put("extraProperties", getResolvedExtraProperties());
 
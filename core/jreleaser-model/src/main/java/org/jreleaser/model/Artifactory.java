@@ -48,6 +48,7 @@ public class Artifactory extends AbstractUploader {
     private String username;
     private String password;
     private HttpUploader.Authorization authorization;
+    private Boolean checksumDeploy;
 
     public Artifactory() {
         super(TYPE);
@@ -59,6 +60,7 @@ public class Artifactory extends AbstractUploader {
         this.username = artifactory.username;
         this.password = artifactory.password;
         this.authorization = artifactory.authorization;
+        this.checksumDeploy = artifactory.checksumDeploy;
         setRepositories(artifactory.repositories);
     }
 
@@ -118,6 +120,18 @@ public class Artifactory extends AbstractUploader {
         this.authorization = HttpUploader.Authorization.of(authorization);
     }
 
+    public Boolean isChecksumDeploy() {
+        return checksumDeploy != null && checksumDeploy;
+    }
+
+    public void setChecksumDeploy(Boolean checksumDeploy) {
+        this.checksumDeploy = checksumDeploy;
+    }
+
+    public boolean isChecksumDeploySet() {
+        return checksumDeploy != null;
+    }
+
     public List<ArtifactoryRepository> getRepositories() {
         return repositories;
     }
@@ -139,6 +153,7 @@ public class Artifactory extends AbstractUploader {
         props.put("host", getResolvedHost());
         props.put("username", isNotBlank(getResolvedUsername()) ? HIDE : UNSET);
         props.put("password", isNotBlank(getResolvedPassword()) ? HIDE : UNSET);
+        props.put("checksumDeploy", isChecksumDeploy());
         List<Map<String, Object>> repositories = this.repositories.stream()
             .filter(d -> full || d.isEnabled())
             .map(d -> d.asMap(full))
@@ -38,11 +38,13 @@ public class Checksum implements Domain {
     private Boolean individual;
     private String name;
     private Boolean files;
+    private int parallelism;
 
     void setAll(Checksum checksum) {
         this.name = checksum.name;
         this.individual = checksum.individual;
         this.files = checksum.files;
+        this.parallelism = checksum.parallelism;
         setAlgorithms(checksum.algorithms);
     }
 
@@ -105,6 +107,14 @@ public class Checksum implements Domain {
         this.files = files;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> props = new LinkedHashMap<>();
@@ -112,6 +122,7 @@ public class Checksum implements Domain {
         props.put("individual", isIndividual());
         props.put("algorithms", algorithms);
         props.put("files", isFiles());
+        props.put("parallelism", parallelism);
         return props;
     }
 }
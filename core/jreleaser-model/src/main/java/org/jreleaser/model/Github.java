@@ -27,6 +27,7 @@ public class Github extends GitService {
     public static final String NAME = "github";
 
     private Boolean draft;
+    private Boolean syncAssets;
     private String discussionCategoryName;
 
     public Github() {
@@ -46,6 +47,7 @@ public class Github extends GitService {
     void setAll(Github service) {
         super.setAll(service);
         this.draft = service.draft;
+        this.syncAssets = service.syncAssets;
         this.discussionCategoryName = service.discussionCategoryName;
     }
 
@@ -61,6 +63,18 @@ public class Github extends GitService {
         return draft != null;
     }
 
+    public boolean isSyncAssets() {
+        return syncAssets != null && syncAssets;
+    }
+
+    public void setSyncAssets(Boolean syncAssets) {
+        this.syncAssets = syncAssets;
+    }
+
+    public boolean isSyncAssetsSet() {
+        return syncAssets != null;
+    }
+
     public String getDiscussionCategoryName() {
         return discussionCategoryName;
     }
@@ -78,6 +92,7 @@ public class Github extends GitService {
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> map = super.asMap(full);
         map.put("draft", isDraft());
+        map.put("syncAssets", isSyncAssets());
         map.put("discussionCategoryName", discussionCategoryName);
         return map;
     }
@@ -20,6 +20,8 @@ package org.jreleaser.model;
 import org.bouncycastle.openpgp.PGPException;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.releaser.spi.Releaser;
+import org.jreleaser.model.util.ArtifactMetadataRegistry;
+import org.jreleaser.model.util.FileIndex;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.Errors;
 import org.jreleaser.util.JReleaserException;
@@ -91,6 +93,8 @@ public class JReleaserContext {
     private final Mode mode;
     private final Configurer configurer;
     private final Errors errors = new Errors();
+    private final FileIndex fileIndex = new FileIndex();
+    private final ArtifactMetadataRegistry artifactMetadata = new ArtifactMetadataRegistry();
     private final List<String> selectedPlatforms = new ArrayList<>();
     private final List<String> includedAnnouncers = new ArrayList<>();
     private final List<String> includedAssemblers = new ArrayList<>();
@@ -325,6 +329,14 @@ public class JReleaserContext {
         return gitRootSearch;
     }
 
+    public FileIndex getFileIndex() {
+        return fileIndex;
+    }
+
+    public ArtifactMetadataRegistry getArtifactMetadata() {
+        return artifactMetadata;
+    }
+
     public String getChangelog() {
         return changelog;
     }
@@ -45,6 +45,10 @@ public class S3 extends AbstractUploader {
     private String accessKeyId;
     private String secretKey;
     private String sessionToken;
+    private int partSize;
+    private int partParallelism;
+    private Boolean sync;
+    private Boolean pathStyleAccess;
 
     public S3() {
         super(TYPE);
@@ -60,6 +64,10 @@ public class S3 extends AbstractUploader {
         this.accessKeyId = s3.accessKeyId;
         this.secretKey = s3.secretKey;
         this.sessionToken = s3.sessionToken;
+        this.partSize = s3.partSize;
+        this.partParallelism = s3.partParallelism;
+        this.sync = s3.sync;
+        this.pathStyleAccess = s3.pathStyleAccess;
         setHeaders(s3.headers);
     }
 
@@ -199,6 +207,46 @@ public class S3 extends AbstractUploader {
         this.endpoint = endpoint;
     }
 
+    public int getPartSize() {
+        return partSize;
+    }
+
+    public void setPartSize(int partSize) {
+        this.partSize = partSize;
+    }
+
+    public int getPartParallelism() {
+        return partParallelism;
+    }
+
+    public void setPartParallelism(int partParallelism) {
+        this.partParallelism = partParallelism;
+    }
+
+    public Boolean isSync() {
+        return sync != null && sync;
+    }
+
+    public void setSync(Boolean sync) {
+        this.sync = sync;
+    }
+
+    public boolean isSyncSet() {
+        return sync != null;
+    }
+
+    public Boolean isPathStyleAccess() {
+        return pathStyleAccess != null && pathStyleAccess;
+    }
+
+    public void setPathStyleAccess(Boolean pathStyleAccess) {
+        this.pathStyleAccess = pathStyleAccess;
+    }
+
+    public boolean isPathStyleAccessSet() {
+        return pathStyleAccess != null;
+    }
+
     public Map<String, String> getHeaders() {
         return headers;
     }
@@ -221,6 +269,10 @@ public class S3 extends AbstractUploader {
         props.put("path", getResolvedPath());
         props.put("downloadUrl", getResolvedDownloadUrl());
         props.put("endpoint", getResolvedEndpoint());
+        props.put("partSize", partSize);
+        props.put("partParallelism", partParallelism);
+        props.put("sync", isSync());
+        props.put("pathStyleAccess", isPathStyleAccess());
         props.put("headers", headers);
     }
 }
@@ -66,6 +66,7 @@ public class Signing implements Domain, Activatable {
     private Boolean artifacts;
     private Boolean files;
     private Boolean checksums;
+    private int parallelism;
 
     void setAll(Signing signing) {
         this.active = signing.active;
@@ -78,6 +79,7 @@ public class Signing implements Domain, Activatable {
         this.artifacts = signing.artifacts;
         this.files = signing.files;
         this.checksums = signing.checksums;
+        this.parallelism = signing.parallelism;
         setCommand(signing.command);
         setCosign(signing.cosign);
     }
@@ -227,6 +229,14 @@ public class Signing implements Domain, Activatable {
         this.checksums = checksums;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Command getCommand() {
         return command;
     }
@@ -290,6 +300,7 @@ public class Signing implements Domain, Activatable {
         props.put("artifacts", isArtifacts());
         props.put("files", isFiles());
         props.put("checksums", isChecksums());
+        props.put("parallelism", parallelism);
         props.put("passphrase", isNotBlank(passphrase) ? HIDE : UNSET);
 
         if (mode == Mode.COMMAND) {
@@ -39,9 +39,11 @@ public class Upload implements Domain, EnabledAware {
     private final Map<String, Http> http = new LinkedHashMap<>();
     private final Map<String, S3> s3 = new LinkedHashMap<>();
     private Boolean enabled;
+    private int parallelism;
 
     void setAll(Upload assemble) {
         this.enabled = assemble.enabled;
+        this.parallelism = assemble.parallelism;
         setArtifactory(assemble.artifactory);
         setHttp(assemble.http);
         setS3(assemble.s3);
@@ -62,6 +64,14 @@ public class Upload implements Domain, EnabledAware {
         return enabled != null;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Optional<? extends Uploader> getUploader(String type, String name) {
         switch (type) {
             case Artifactory.TYPE:
@@ -170,6 +180,7 @@ public class Upload implements Domain, EnabledAware {
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
+        map.put("parallelism", parallelism);
 
         List<Map<String, Object>> artifactory = this.artifactory.values()
             .stream()
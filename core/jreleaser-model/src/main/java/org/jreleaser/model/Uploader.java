@@ -57,6 +57,10 @@ public interface Uploader extends Domain, Activatable, TimeoutAware, ExtraProper
 
     void setChecksums(Boolean checksums);
 
+    int getParallelism();
+
+    void setParallelism(int parallelism);
+
     List<String> resolveSkipKeys();
 
     Map<String, Object> artifactProps(JReleaserContext context, Artifact artifact);
@@ -30,4 +30,14 @@ public interface Releaser {
     Repository maybeCreateRepository(String owner, String repo, String password) throws IOException;
 
     Optional<User> findUser(String email, String name);
+
+    /**
+     * Same as {@link #findUser(String, String)} but failed lookups are reported instead of being
+     * treated as unknown users, letting callers tell the two apart.
+     *
+     * @since 1.0.0
+     */
+    default Optional<User> lookupUser(String email, String name) throws ReleaseException {
+        return findUser(email, name);
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.util;
+
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-run registry of file metadata (existence, size, digests and content type) shared by every stage.
+ * <p>
+ * Each value is computed at most once per file. Stages that create, rewrite or delete a file must
+ * {@link #invalidate(Path)} it, or {@link #invalidateAll()} when the affected files are not known.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class ArtifactMetadataRegistry {
+    private final Map<Path, Metadata> entries = new ConcurrentHashMap<>();
+
+    public Metadata of(Path path) {
+        return entries.computeIfAbsent(normalize(path), Metadata::new);
+    }
+
+    public void invalidate(Path path) {
+        entries.remove(normalize(path));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    @FunctionalInterface
+    public interface ContentTypeDetector {
+        String detect(Path path) throws IOException;
+    }
+
+    public static final class Metadata {
+        private final Path path;
+        private final Map<Algorithm, String> digests = new EnumMap<>(Algorithm.class);
+        private boolean resolved;
+        private boolean exists;
+        private long size;
+        private String contentType;
+
+        private Metadata(Path path) {
+            this.path = path;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public synchronized boolean exists() {
+            resolve();
+            return exists;
+        }
+
+        /**
+         * Returns the size of the file in bytes, {@code 0} if it does not exist.
+         */
+        public synchronized long getSize() {
+            resolve();
+            return size;
+        }
+
+        /**
+         * Whether the file exists and has contents, that is, whether it is worth uploading.
+         */
+        public synchronized boolean isNotEmpty() {
+            resolve();
+            return exists && size > 0;
+        }
+
+        public synchronized String getDigest(Algorithm algorithm) throws IOException {
+            String digest = digests.get(algorithm);
+            if (null == digest) {
+                digest = ChecksumUtils.checksum(algorithm, path);
+                digests.put(algorithm, digest);
+            }
+            return digest;
+        }
+
+        /**
+         * Returns digests for all given algorithms, calculating the missing ones with a single read.
+         */
+        public synchronized Map<Algorithm, String> getDigests(Collection<Algorithm> algorithms) throws IOException {
+            Set<Algorithm> missing = EnumSet.noneOf(Algorithm.class);
+            for (Algorithm algorithm : algorithms) {
+                if (!digests.containsKey(algorithm)) missing.add(algorithm);
+            }
+
+            if (!missing.isEmpty()) {
+                digests.putAll(ChecksumUtils.checksum(missing, path));
+            }
+
+            Map<Algorithm, String> result = new LinkedHashMap<>();
+            for (Algorithm algorithm : algorithms) {
+                result.put(algorithm, digests.get(algorithm));
+            }
+            return result;
+        }
+
+        /**
+         * Records a digest calculated elsewhere, such as by the checksum stage.
+         */
+        public synchronized void setDigest(Algorithm algorithm, String digest) {
+            digests.put(algorithm, digest);
+        }
+
+        /**
+         * Returns the content type of the file, running {@code detector} only the first time.
+         */
+        public synchronized String getContentType(ContentTypeDetector detector) throws IOException {
+            if (null == contentType) {
+                contentType = detector.detect(path);
+            }
+            return contentType;
+        }
+
+        private void resolve() {
+            if (resolved) return;
+            resolved = true;
+
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                exists = true;
+                size = attributes.size();
+            } catch (IOException e) {
+                // missing or unreadable, treated alike
+                exists = false;
+                size = 0;
+            }
+        }
+    }
+}
@@ -38,11 +38,8 @@ import org.jreleaser.util.JReleaserLogger;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,7 +49,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.jreleaser.util.Constants.KEY_ARTIFACT_ARCH;
@@ -476,23 +472,7 @@ public class Artifacts {
             return Collections.emptySet();
         }
 
-        FileSystem fileSystem = FileSystems.getDefault();
-        List<PathMatcher> matchers = new ArrayList<>();
-        for (String glob : globs) {
-            matchers.add(fileSystem.getPathMatcher(glob));
-        }
-
-        GlobResolver resolver = new GlobResolver(logger, basedir, matchers);
-        try {
-            java.nio.file.Files.walkFileTree(basedir, resolver);
-            if (resolver.failed) {
-                throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
-            }
-
-            return Artifact.sortArtifacts(resolver.artifacts);
-        } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
-        }
+        return resolveFiles(new FileIndex(), logger, basedir, globs);
     }
 
     public static Set<Artifact> resolveFiles(JReleaserLogger logger,
@@ -503,23 +483,7 @@ public class Artifacts {
             return Collections.emptySet();
         }
 
-        FileSystem fileSystem = FileSystems.getDefault();
-        List<PathMatcher> matchers = new ArrayList<>();
-        for (String glob : globs) {
-            matchers.add(fileSystem.getPathMatcher(resolveTemplate(glob, props)));
-        }
-
-        GlobResolver resolver = new GlobResolver(logger, basedir, matchers);
-        try {
-            java.nio.file.Files.walkFileTree(basedir, resolver);
-            if (resolver.failed) {
-                throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
-            }
-
-            return Artifact.sortArtifacts(resolver.artifacts);
-        } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
-        }
+        return resolveFiles(new FileIndex(), logger, basedir, resolveGlobs(props, globs));
     }
 
     public static Set<Artifact> resolveFiles(JReleaserContext context, Collection<String> globs) throws JReleaserException {
@@ -527,41 +491,40 @@ public class Artifacts {
     }
 
     public static Set<Artifact> resolveFiles(JReleaserContext context, Path directory, Collection<String> globs) throws JReleaserException {
-        return resolveFiles(context.getLogger(), context.props(), directory, globs);
-    }
+        if (null == globs || globs.isEmpty()) {
+            return Collections.emptySet();
+        }
 
-    private static class GlobResolver extends SimpleFileVisitor<Path> {
-        private final JReleaserLogger logger;
-        private final List<PathMatcher> matchers;
-        private final Path basedir;
-        private final Set<Artifact> artifacts = new LinkedHashSet<>();
-        private boolean failed;
+        return resolveFiles(context.getFileIndex(), context.getLogger(), directory, resolveGlobs(context.props(), globs));
+    }
 
-        private GlobResolver(JReleaserLogger logger, Path basedir, List<PathMatcher> matchers) {
-            this.logger = logger;
-            this.matchers = matchers;
-            this.basedir = basedir;
+    private static List<String> resolveGlobs(Map<String, Object> props, Collection<String> globs) {
+        List<String> resolved = new ArrayList<>();
+        for (String glob : globs) {
+            resolved.add(resolveTemplate(glob, props));
         }
+        return resolved;
+    }
 
-        private void match(Path path) {
-            if (matchers.stream()
-                .anyMatch(matcher -> matcher.matches(path))) {
-                artifacts.add(Artifact.of(path));
+    private static Set<Artifact> resolveFiles(FileIndex index, JReleaserLogger logger, Path basedir, Collection<String> globs) throws JReleaserException {
+        FileSystem fileSystem = FileSystems.getDefault();
+        Path absoluteBasedir = basedir.toAbsolutePath().normalize();
+        Set<Artifact> artifacts = new LinkedHashSet<>();
+        for (String glob : globs) {
+            // walk from the deepest directory the glob can match in
+            Path root = FileIndex.resolveWalkRoot(basedir, glob);
+            if (null == root) continue;
+
+            PathMatcher matcher = fileSystem.getPathMatcher(glob);
+            for (Path file : index.list(logger, root)) {
+                // match paths as if basedir had been walked as given, relative globs need relative paths
+                Path path = basedir.resolve(absoluteBasedir.relativize(file));
+                if (matcher.matches(path)) {
+                    artifacts.add(Artifact.of(path));
+                }
             }
         }
 
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            match(file);
-            return CONTINUE;
-        }
-
-        @Override
-        public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
-            failed = true;
-            logger.error(RB.$("ERROR_artifacts_unexpected_error_path"),
-                basedir.toAbsolutePath().relativize(file.toAbsolutePath()), e);
-            return CONTINUE;
-        }
+        return Artifact.sortArtifacts(artifacts);
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.util;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.util.JReleaserException;
+import org.jreleaser.util.JReleaserLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+
+/**
+ * Memoized listing of the files found below a set of directories.
+ * <p>
+ * A directory is walked at most once until the index is invalidated; listings of nested directories are
+ * served from the listing of an enclosing one. VCS metadata directories are never walked.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class FileIndex {
+    private static final Set<String> SKIPPED_DIRECTORIES = new HashSet<>(Arrays.asList(
+        ".git", ".hg", ".svn", ".bzr", "_darcs", "CVS"));
+    private static final String GLOB_PREFIX = "glob:";
+    private static final String GLOB_META_CHARS = "*?[]{}\\";
+
+    private final Map<Path, List<Path>> listings = new LinkedHashMap<>();
+
+    /**
+     * Returns all regular files below {@code directory}, walking it only if no enclosing directory has been indexed.
+     */
+    public synchronized List<Path> list(JReleaserLogger logger, Path directory) throws JReleaserException {
+        Path root = directory.toAbsolutePath().normalize();
+
+        List<Path> listing = listings.get(root);
+        if (null != listing) return listing;
+
+        for (Map.Entry<Path, List<Path>> e : listings.entrySet()) {
+            if (root.startsWith(e.getKey())) {
+                List<Path> files = new ArrayList<>();
+                for (Path file : e.getValue()) {
+                    if (file.startsWith(root)) files.add(file);
+                }
+                return Collections.unmodifiableList(files);
+            }
+        }
+
+        Walker walker = new Walker(logger, root);
+        try {
+            if (java.nio.file.Files.isDirectory(root)) {
+                java.nio.file.Files.walkFileTree(root, walker);
+            }
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
+        }
+
+        if (walker.failed) {
+            throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
+        }
+
+        listing = Collections.unmodifiableList(walker.files);
+        listings.put(root, listing);
+        return listing;
+    }
+
+    /**
+     * Returns the directory a walk must start from to find every match of {@code pattern} below {@code directory},
+     * or {@code null} when the pattern cannot match anything in it. For {@code glob:} patterns this is the
+     * longest literal directory prefix of the pattern.
+     * <p>
+     * Patterns are matched against paths spelled the way {@code directory} is, thus a relative prefix is
+     * resolved the same way a relative {@code directory} is, against the working directory. Patterns that
+     * start with a wildcard, such as the {@code **} prefixed ones built by {@code Glob}, may match at any
+     * depth and are walked from {@code directory}.
+     */
+    public static Path resolveWalkRoot(Path directory, String pattern) {
+        Path root = directory.toAbsolutePath().normalize();
+        Path prefix = literalPrefix(pattern);
+        if (null == prefix) return root;
+
+        prefix = prefix.toAbsolutePath().normalize();
+        if (prefix.startsWith(root)) return prefix;
+        if (root.startsWith(prefix)) return root;
+        return null;
+    }
+
+    /**
+     * Forgets every listing. Must be called whenever files may have been added or removed, such as after assembly.
+     */
+    public synchronized void invalidate() {
+        listings.clear();
+    }
+
+    private static Path literalPrefix(String pattern) {
+        // backslash is both the glob escape character and the Windows separator
+        if (!pattern.startsWith(GLOB_PREFIX) || File.separatorChar != '/') return null;
+
+        String glob = pattern.substring(GLOB_PREFIX.length());
+        // the last segment names files, only directories are of interest
+        int end = glob.lastIndexOf('/');
+        if (end <= 0) return null;
+
+        String candidate = glob.substring(0, end);
+        for (int i = 0; i < candidate.length(); i++) {
+            if (GLOB_META_CHARS.indexOf(candidate.charAt(i)) != -1) {
+                int cut = candidate.lastIndexOf('/', i);
+                if (cut <= 0) return null;
+                candidate = candidate.substring(0, cut);
+                break;
+            }
+        }
+
+        try {
+            return Paths.get(candidate);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static class Walker extends SimpleFileVisitor<Path> {
+        private final JReleaserLogger logger;
+        private final Path root;
+        private final List<Path> files = new ArrayList<>();
+        private boolean failed;
+
+        private Walker(JReleaserLogger logger, Path root) {
+            this.logger = logger;
+            this.root = root;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            Path name = dir.getFileName();
+            if (!dir.equals(root) && null != name && SKIPPED_DIRECTORIES.contains(name.toString())) {
+                return SKIP_SUBTREE;
+            }
+            return CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            files.add(file);
+            return CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) {
+            failed = true;
+            logger.error(RB.$("ERROR_artifacts_unexpected_error_path"),
+                root.relativize(file.toAbsolutePath()), e);
+            return CONTINUE;
+        }
+    }
+}
@@ -101,6 +101,7 @@ public abstract class ArtifactoryValidator extends Validator {
         }
 
         validateTimeout(artifactory);
+        validateParallelism(artifactory);
 
         for (Artifactory.ArtifactoryRepository repository : artifactory.getRepositories()) {
             if (!repository.isActiveSet()) {
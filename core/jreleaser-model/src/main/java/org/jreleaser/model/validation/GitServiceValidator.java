@@ -179,6 +179,9 @@ public abstract class GitServiceValidator extends Validator {
         }
 
         validateTimeout(service);
+        if (service.getUploadParallelism() <= 0) {
+            service.setUploadParallelism(4);
+        }
 
         if (service.isReleaseSupported()) {
             // milestone
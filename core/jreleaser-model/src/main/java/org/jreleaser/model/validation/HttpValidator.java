@@ -102,5 +102,6 @@ public abstract class HttpValidator extends Validator {
         }
 
         validateTimeout(http);
+        validateParallelism(http);
     }
 }
@@ -119,6 +119,17 @@ public abstract class S3Validator extends Validator {
             errors.configuration(RB.$("validation_s3_missing_download_url", "s3." + s3.getName()));
         }
 
+        if (s3.getPartSize() <= 0) {
+            s3.setPartSize(16);
+        } else if (s3.getPartSize() < 5) {
+            // S3 rejects multipart parts smaller than 5 MB
+            s3.setPartSize(5);
+        }
+        if (s3.getPartParallelism() <= 0) {
+            s3.setPartParallelism(4);
+        }
+
         validateTimeout(s3);
+        validateParallelism(s3);
     }
 }
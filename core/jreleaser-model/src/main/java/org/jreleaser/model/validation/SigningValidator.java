@@ -54,6 +54,10 @@ public abstract class SigningValidator extends Validator {
             signing.setArmored(true);
         }
 
+        if (signing.getParallelism() <= 0) {
+            signing.setParallelism(Runtime.getRuntime().availableProcessors());
+        }
+
         boolean cosign = signing.resolveMode() == Signing.Mode.COSIGN;
 
         signing.setPassphrase(
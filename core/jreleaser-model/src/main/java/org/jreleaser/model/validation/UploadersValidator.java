@@ -42,6 +42,10 @@ public abstract class UploadersValidator extends Validator {
         validateHttp(context, mode, errors);
         validateS3(context, mode, errors);
 
+        if (upload.getParallelism() <= 0) {
+            upload.setParallelism(1);
+        }
+
         if (!upload.isEnabledSet()) {
             upload.setEnabled(!upload.getActiveArtifactories().isEmpty() ||
                 !upload.getActiveHttps().isEmpty() ||
@@ -31,6 +31,7 @@ import org.jreleaser.model.OwnerAware;
 import org.jreleaser.model.Packager;
 import org.jreleaser.model.RepositoryTap;
 import org.jreleaser.model.TimeoutAware;
+import org.jreleaser.model.Uploader;
 import org.jreleaser.util.Env;
 import org.jreleaser.util.Errors;
 
@@ -118,6 +119,12 @@ class Validator {
         }
     }
 
+    static void validateParallelism(Uploader self) {
+        if (self.getParallelism() <= 0) {
+            self.setParallelism(1);
+        }
+    }
+
     static void validateTap(JReleaserContext context, Distribution distribution,
                             RepositoryTap tap, RepositoryTap parentTap, String property) {
         validateOwner(tap, parentTap);
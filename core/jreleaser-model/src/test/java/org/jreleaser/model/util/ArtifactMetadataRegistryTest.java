@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.util;
+
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class ArtifactMetadataRegistryTest {
+    @TempDir
+    Path basedir;
+
+    @Test
+    public void testMissingDigestsAreCalculatedTogether() throws IOException {
+        // given:
+        byte[] contents = "artifact".getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(basedir.resolve("artifact.zip"), contents);
+        ArtifactMetadataRegistry.Metadata metadata = new ArtifactMetadataRegistry().of(file);
+
+        // when:
+        Map<Algorithm, String> digests = metadata.getDigests(Arrays.asList(Algorithm.SHA_256, Algorithm.MD5, Algorithm.SHA_1));
+        Files.delete(file);
+
+        // then:
+        assertThat(digests.keySet(), contains(Algorithm.SHA_256, Algorithm.MD5, Algorithm.SHA_1));
+        assertThat(digests.get(Algorithm.SHA_256), equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, contents)));
+        assertThat(digests.get(Algorithm.MD5), equalTo(ChecksumUtils.checksum(Algorithm.MD5, contents)));
+        assertThat(digests.get(Algorithm.SHA_1), equalTo(ChecksumUtils.checksum(Algorithm.SHA_1, contents)));
+        // every digest was calculated by that single call, the file is not needed anymore
+        assertThat(metadata.getDigest(Algorithm.MD5), equalTo(digests.get(Algorithm.MD5)));
+        assertThat(metadata.getDigest(Algorithm.SHA_1), equalTo(digests.get(Algorithm.SHA_1)));
+    }
+
+    @Test
+    public void testSeededDigestIsNotRecalculated() throws IOException {
+        // given:
+        byte[] contents = "artifact".getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(basedir.resolve("artifact.zip"), contents);
+        ArtifactMetadataRegistry registry = new ArtifactMetadataRegistry();
+        registry.of(file).setDigest(Algorithm.SHA_256, "seeded");
+
+        // when:
+        Map<Algorithm, String> digests = registry.of(file).getDigests(Arrays.asList(Algorithm.SHA_256, Algorithm.MD5));
+
+        // then:
+        assertThat(digests.get(Algorithm.SHA_256), equalTo("seeded"));
+        assertThat(digests.get(Algorithm.MD5), equalTo(ChecksumUtils.checksum(Algorithm.MD5, contents)));
+    }
+
+    @Test
+    public void testPathsAreNormalized() {
+        // given:
+        ArtifactMetadataRegistry registry = new ArtifactMetadataRegistry();
+
+        // expect:
+        assertThat(registry.of(basedir.resolve("a/../artifact.zip")),
+            sameInstance(registry.of(basedir.resolve("artifact.zip"))));
+    }
+
+    @Test
+    public void testInvalidatePicksUpRewrittenFile() throws IOException {
+        // given:
+        Path file = Files.write(basedir.resolve("artifact.zip"), "v1".getBytes(StandardCharsets.UTF_8));
+        Path other = Files.write(basedir.resolve("other.zip"), "v1".getBytes(StandardCharsets.UTF_8));
+        ArtifactMetadataRegistry registry = new ArtifactMetadataRegistry();
+        String before = registry.of(file).getDigest(Algorithm.SHA_256);
+        String otherBefore = registry.of(other).getDigest(Algorithm.SHA_256);
+        Files.write(file, "version 2".getBytes(StandardCharsets.UTF_8));
+        Files.write(other, "version 2".getBytes(StandardCharsets.UTF_8));
+
+        // when:
+        String stale = registry.of(file).getDigest(Algorithm.SHA_256);
+        registry.invalidate(file);
+
+        // then:
+        assertThat(stale, equalTo(before));
+        assertThat(registry.of(file).getDigest(Algorithm.SHA_256), not(equalTo(before)));
+        assertThat(registry.of(file).getSize(), equalTo(9L));
+        assertThat(registry.of(other).getDigest(Algorithm.SHA_256), equalTo(otherBefore));
+    }
+
+    @Test
+    public void testInvalidateAllPicksUpRewrittenFiles() throws IOException {
+        // given:
+        Path file = Files.write(basedir.resolve("artifact.zip"), "v1".getBytes(StandardCharsets.UTF_8));
+        ArtifactMetadataRegistry registry = new ArtifactMetadataRegistry();
+        String before = registry.of(file).getDigest(Algorithm.SHA_256);
+        assertThat(registry.of(file).exists(), equalTo(true));
+        Files.delete(file);
+
+        // when:
+        registry.invalidateAll();
+
+        // then:
+        assertThat(registry.of(file).exists(), equalTo(false));
+        Files.write(file, "version 2".getBytes(StandardCharsets.UTF_8));
+        registry.invalidateAll();
+        assertThat(registry.of(file).getDigest(Algorithm.SHA_256), not(equalTo(before)));
+        assertThat(registry.of(file).getSize(), equalTo(9L));
+    }
+}
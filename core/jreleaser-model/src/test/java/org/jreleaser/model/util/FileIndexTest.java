@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.util;
+
+import org.jreleaser.model.Artifact;
+import org.jreleaser.util.JReleaserLogger;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class FileIndexTest {
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter();
+
+    @TempDir
+    Path basedir;
+
+    @Test
+    public void testRelativeGlobMatchesRelativeBasedir() throws IOException {
+        // given:
+        touch("target/a.jar");
+        touch("target/classes/A.class");
+        Path relativeBasedir = Paths.get("").toAbsolutePath().relativize(basedir);
+
+        // when:
+        Set<Artifact> artifacts = Artifacts.resolveFiles(logger, relativeBasedir,
+            Collections.singletonList("glob:" + relativeBasedir.resolve("target") + "/*.jar"));
+
+        // then:
+        assertThat(artifacts, hasSize(1));
+        Path path = artifacts.iterator().next().getResolvedPath();
+        assertThat(path.isAbsolute(), equalTo(false));
+        assertThat(path, equalTo(relativeBasedir.resolve("target/a.jar")));
+    }
+
+    @Test
+    public void testNestedListingIsServedFromEnclosingListing() throws IOException {
+        // given:
+        FileIndex index = new FileIndex();
+        touch("target/a.jar");
+        touch("b.txt");
+        index.list(logger, basedir);
+        touch("target/c.jar");
+
+        // when:
+        List<Path> nested = index.list(logger, basedir.resolve("target"));
+
+        // then:
+        assertThat(nested, contains(basedir.resolve("target/a.jar")));
+
+        // when:
+        index.invalidate();
+        nested = index.list(logger, basedir.resolve("target"));
+
+        // then:
+        assertThat(nested, containsInAnyOrder(basedir.resolve("target/a.jar"), basedir.resolve("target/c.jar")));
+    }
+
+    @Test
+    public void testVcsDirectoriesAreSkipped() throws IOException {
+        // given:
+        FileIndex index = new FileIndex();
+        touch("a.jar");
+        touch(".git/objects/b.jar");
+        touch(".svn/c.jar");
+
+        // when:
+        List<Path> files = index.list(logger, basedir);
+
+        // then:
+        assertThat(files, contains(basedir.resolve("a.jar")));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void testWalkRootIsLongestLiteralPrefix() {
+        // given:
+        Path relativeBasedir = Paths.get("").toAbsolutePath().relativize(basedir);
+
+        // expect:
+        assertThat(FileIndex.resolveWalkRoot(basedir, "glob:" + basedir + "/target/*/lib/*.jar"),
+            equalTo(basedir.resolve("target")));
+        assertThat(FileIndex.resolveWalkRoot(relativeBasedir, "glob:" + relativeBasedir + "/target/*.jar"),
+            equalTo(basedir.resolve("target")));
+        assertThat(FileIndex.resolveWalkRoot(basedir, "glob:**/*.jar"),
+            equalTo(basedir));
+        assertThat(FileIndex.resolveWalkRoot(basedir.resolve("target"), "glob:" + basedir + "/*.jar"),
+            equalTo(basedir.resolve("target")));
+        assertThat(FileIndex.resolveWalkRoot(basedir.resolve("target"), "glob:" + basedir + "/docs/*.md"),
+            nullValue());
+    }
+
+    private void touch(String path) throws IOException {
+        Path file = basedir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, path.getBytes());
+    }
+}
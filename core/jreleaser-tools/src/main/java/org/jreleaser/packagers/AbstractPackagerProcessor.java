@@ -326,13 +326,7 @@ abstract class AbstractPackagerProcessor<T extends Packager> implements Packager
 
             Path artifactPath = artifact.getEffectivePath(context, distribution);
 
-            long artifactSize = 0;
-            try {
-                artifactSize = Files.size(artifactPath);
-            } catch (IOException ignored) {
-                // this would be strange
-                context.getLogger().trace(ignored);
-            }
+            long artifactSize = context.getArtifactMetadata().of(artifactPath).getSize();
 
             String artifactFile = artifact.getEffectivePath().getFileName().toString();
             String artifactFileName = getFilename(artifactFile, FileType.getSupportedExtensions());
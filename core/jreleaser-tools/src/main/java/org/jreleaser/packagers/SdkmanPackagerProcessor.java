@@ -23,6 +23,7 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Sdkman;
 import org.jreleaser.model.packager.spi.PackagerProcessingException;
 import org.jreleaser.model.util.SdkmanHelper;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.sdkman.MajorReleaseSdkmanCommand;
 import org.jreleaser.sdk.sdkman.MinorReleaseSdkmanCommand;
 import org.jreleaser.sdk.sdkman.SdkmanException;
@@ -70,6 +71,7 @@ public class SdkmanPackagerProcessor extends AbstractPackagerProcessor<Sdkman> {
                 case MAJOR:
                     context.getLogger().info(RB.$("sdkman.publish.major"), candidate);
                     MajorReleaseSdkmanCommand.builder(context.getLogger())
+                        .pool(HttpClientPool.of(context))
                         .connectTimeout(sdkman.getConnectTimeout())
                         .readTimeout(sdkman.getReadTimeout())
                         .consumerKey(context.isDryrun() ? "**UNDEFINED**" : sdkman.getResolvedConsumerKey())
@@ -86,6 +88,7 @@ public class SdkmanPackagerProcessor extends AbstractPackagerProcessor<Sdkman> {
                 case MINOR:
                     context.getLogger().info(RB.$("sdkman.publish.minor"), candidate);
                     MinorReleaseSdkmanCommand.builder(context.getLogger())
+                        .pool(HttpClientPool.of(context))
                         .connectTimeout(sdkman.getConnectTimeout())
                         .readTimeout(sdkman.getReadTimeout())
                         .consumerKey(context.isDryrun() ? "**UNDEFINED**" : sdkman.getResolvedConsumerKey())
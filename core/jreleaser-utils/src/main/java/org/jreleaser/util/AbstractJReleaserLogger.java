@@ -25,16 +25,34 @@ import java.util.Stack;
  * @since 0.1.0
  */
 public abstract class AbstractJReleaserLogger implements JReleaserLogger {
-    private final Stack<String> prefix = new Stack<>();
+    // prefix and indent are tracked per thread; worker threads start from a copy of their parent's state
+    private final ThreadLocal<Stack<String>> prefix = new InheritableThreadLocal<Stack<String>>() {
+        @Override
+        protected Stack<String> initialValue() {
+            return new Stack<>();
+        }
+
+        @Override
+        protected Stack<String> childValue(Stack<String> parentValue) {
+            Stack<String> copy = new Stack<>();
+            copy.addAll(parentValue);
+            return copy;
+        }
+    };
+    private final ThreadLocal<String> indent = new InheritableThreadLocal<String>() {
+        @Override
+        protected String initialValue() {
+            return "";
+        }
+    };
     private final PrintWriter tracer;
-    private String indent = "";
 
     protected AbstractJReleaserLogger(PrintWriter tracer) {
         this.tracer = tracer;
     }
 
     protected boolean isIndented() {
-        return !indent.equals("");
+        return !indent.get().equals("");
     }
 
     @Override
@@ -44,36 +62,39 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
 
     @Override
     public void reset() {
-        this.prefix.clear();
-        this.indent = "";
+        this.prefix.get().clear();
+        this.indent.set("");
     }
 
     @Override
     public void setPrefix(String prefix) {
-        this.prefix.push(prefix);
+        this.prefix.get().push(prefix);
     }
 
     @Override
     public void restorePrefix() {
-        if (!this.prefix.isEmpty()) {
-            this.prefix.pop();
+        Stack<String> stack = this.prefix.get();
+        if (!stack.isEmpty()) {
+            stack.pop();
         }
     }
 
     @Override
     public void increaseIndent() {
-        indent += "  ";
+        indent.set(indent.get() + "  ");
     }
 
     @Override
     public void decreaseIndent() {
-        if (indent.length() > 0) {
-            indent = indent.substring(0, indent.length() - 2);
+        String current = indent.get();
+        if (current.length() > 0) {
+            indent.set(current.substring(0, current.length() - 2));
         }
     }
 
     protected String formatMessage(String message) {
-        return indent + (!prefix.isEmpty() ? "[" + prefix.peek() + "] " : "") + message;
+        Stack<String> stack = prefix.get();
+        return indent.get() + (!stack.isEmpty() ? "[" + stack.peek() + "] " : "") + message;
     }
 
     @Override
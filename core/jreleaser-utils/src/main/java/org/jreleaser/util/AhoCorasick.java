@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds which of a fixed set of literals occur in a text with a single pass over the text,
+ * regardless of the number of literals.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class AhoCorasick {
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<List<Integer>> outputs = new ArrayList<>();
+    private final int[] failures;
+    private final int size;
+
+    /**
+     * @param literals the literals to look for, identified by their position in the list.
+     */
+    public AhoCorasick(List<String> literals) {
+        this.size = literals.size();
+        newNode();
+
+        for (int id = 0; id < literals.size(); id++) {
+            String literal = literals.get(id);
+            int node = 0;
+            for (int i = 0; i < literal.length(); i++) {
+                Character c = literal.charAt(i);
+                Integer next = transitions.get(node).get(c);
+                if (null == next) {
+                    next = newNode();
+                    transitions.get(node).put(c, next);
+                }
+                node = next;
+            }
+            outputs.get(node).add(id);
+        }
+
+        // breadth first, so the failure of a node is always resolved before the node itself
+        failures = new int[transitions.size()];
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int node = queue.remove();
+            for (Map.Entry<Character, Integer> e : transitions.get(node).entrySet()) {
+                int child = e.getValue();
+                int failure = failures[node];
+                while (failure > 0 && !transitions.get(failure).containsKey(e.getKey())) {
+                    failure = failures[failure];
+                }
+                Integer target = transitions.get(failure).get(e.getKey());
+                failures[child] = null != target && target != child ? target : 0;
+                outputs.get(child).addAll(outputs.get(failures[child]));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    /**
+     * Returns the positions of all literals contained in {@code text}.
+     */
+    public BitSet matches(CharSequence text) {
+        BitSet found = new BitSet(size);
+        if (0 == size) return found;
+
+        int node = 0;
+        collect(found, node);
+        for (int i = 0; i < text.length(); i++) {
+            Character c = text.charAt(i);
+            Integer next = transitions.get(node).get(c);
+            while (null == next && node > 0) {
+                node = failures[node];
+                next = transitions.get(node).get(c);
+            }
+            node = null != next ? next : 0;
+            collect(found, node);
+        }
+
+        return found;
+    }
+
+    private void collect(BitSet found, int node) {
+        for (Integer id : outputs.get(node)) {
+            found.set(id);
+        }
+    }
+}
@@ -23,12 +23,23 @@ import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class ChecksumUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private ChecksumUtils() {
         // prevent instantiation
     }
@@ -65,4 +76,122 @@ public class ChecksumUtils {
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    public static String checksum(Algorithm algorithm, Path input) throws IOException {
+        return checksum(Collections.singleton(algorithm), input).get(algorithm);
+    }
+
+    /**
+     * Calculates digests for all given algorithms reading the input file only once.
+     * Memory usage is bound by the size of the read buffer regardless of the size of the file.
+     */
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, Path input) throws IOException {
+        return checksum(algorithms, input, null);
+    }
+
+    /**
+     * Calculates digests for all given algorithms reading the input file only once.
+     * Every chunk read is also written to {@code tee} (if not {@code null}), letting other
+     * consumers process the same contents without reading the file again.
+     */
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, Path input, OutputStream tee) throws IOException {
+        try (InputStream in = Files.newInputStream(input)) {
+            return checksum(algorithms, in, tee);
+        }
+    }
+
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, InputStream in) throws IOException {
+        return checksum(algorithms, in, null);
+    }
+
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, InputStream in, OutputStream tee) throws IOException {
+        Map<Algorithm, Digester> digesters = new EnumMap<>(Algorithm.class);
+        for (Algorithm algorithm : algorithms) {
+            digesters.put(algorithm, digester(algorithm));
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (Digester digester : digesters.values()) {
+                digester.update(buffer, 0, read);
+            }
+            if (null != tee) {
+                tee.write(buffer, 0, read);
+            }
+        }
+
+        Map<Algorithm, String> checksums = new EnumMap<>(Algorithm.class);
+        digesters.forEach((algorithm, digester) -> checksums.put(algorithm, Hex.encodeHexString(digester.digest())));
+        return checksums;
+    }
+
+    private static Digester digester(Algorithm algorithm) throws IOException {
+        switch (algorithm) {
+            case MD2:
+                return new MessageDigester(DigestUtils.getMd2Digest());
+            case MD5:
+                return new MessageDigester(DigestUtils.getMd5Digest());
+            case RMD160:
+                return new Ripemd160Digester();
+            case SHA_1:
+                return new MessageDigester(DigestUtils.getSha1Digest());
+            case SHA_256:
+                return new MessageDigester(DigestUtils.getSha256Digest());
+            case SHA_384:
+                return new MessageDigester(DigestUtils.getSha384Digest());
+            case SHA_512:
+                return new MessageDigester(DigestUtils.getSha512Digest());
+            case SHA3_224:
+                return new MessageDigester(DigestUtils.getSha3_224Digest());
+            case SHA3_256:
+                return new MessageDigester(DigestUtils.getSha3_256Digest());
+            case SHA3_384:
+                return new MessageDigester(DigestUtils.getSha3_384Digest());
+            case SHA3_512:
+                return new MessageDigester(DigestUtils.getSha3_512Digest());
+            default:
+                throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
+        }
+    }
+
+    private interface Digester {
+        void update(byte[] data, int offset, int length);
+
+        byte[] digest();
+    }
+
+    private static class MessageDigester implements Digester {
+        private final MessageDigest delegate;
+
+        private MessageDigester(MessageDigest delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            delegate.update(data, offset, length);
+        }
+
+        @Override
+        public byte[] digest() {
+            return delegate.digest();
+        }
+    }
+
+    private static class Ripemd160Digester implements Digester {
+        private final RIPEMD160Digest delegate = new RIPEMD160Digest();
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            delegate.update(data, offset, length);
+        }
+
+        @Override
+        public byte[] digest() {
+            byte[] output = new byte[delegate.getDigestSize()];
+            delegate.doFinal(output, 0);
+            return output;
+        }
+    }
 }
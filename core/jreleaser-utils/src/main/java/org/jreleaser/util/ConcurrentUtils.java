@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Runs a batch of independent tasks on a bounded pool of worker threads.
+ * Results are always returned in the same order as their inputs.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class ConcurrentUtils {
+    private ConcurrentUtils() {
+        // prevent instantiation
+    }
+
+    /**
+     * Applies {@code task} to every input using at most {@code parallelism} threads.
+     * The first failure cancels all pending and in-flight tasks and is rethrown.
+     */
+    public static <T, R> List<R> mapAll(String name, int parallelism, Collection<T> inputs, Function<T, R> task) {
+        return mapAll(name, parallelism, inputs, task, (input, result) -> {
+            // noop
+        });
+    }
+
+    /**
+     * Like {@link #mapAll(String, int, Collection, Function)} but also notifies {@code onComplete} on the calling
+     * thread as soon as a task and every task before it have finished, so progress is reported in input order.
+     */
+    public static <T, R> List<R> mapAll(String name, int parallelism, Collection<T> inputs, Function<T, R> task,
+                                        BiConsumer<T, R> onComplete) {
+        List<T> items = new ArrayList<>(inputs);
+        List<R> results = new ArrayList<>(items.size());
+
+        if (parallelism <= 1 || items.size() <= 1) {
+            for (T item : items) {
+                R result = task.apply(item);
+                results.add(result);
+                onComplete.accept(item, result);
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, items.size()), threadFactory(name));
+        try {
+            CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+            List<Future<Integer>> futures = new ArrayList<>(items.size());
+            boolean[] done = new boolean[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                results.add(null);
+                int index = i;
+                futures.add(completionService.submit(() -> {
+                    R result = task.apply(items.get(index));
+                    synchronized (results) {
+                        results.set(index, result);
+                    }
+                    return index;
+                }));
+            }
+
+            int next = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    done[completionService.take().get()] = true;
+                } catch (ExecutionException e) {
+                    futures.forEach(f -> f.cancel(true));
+                    throw rethrow(e.getCause());
+                }
+
+                while (next < done.length && done[next]) {
+                    R result;
+                    synchronized (results) {
+                        result = results.get(next);
+                    }
+                    onComplete.accept(items.get(next), result);
+                    next++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JReleaserException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) return (RuntimeException) t;
+        if (t instanceof Error) throw (Error) t;
+        return new JReleaserException(t);
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "jreleaser-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -19,6 +19,10 @@ package org.jreleaser.util;
 
 import org.jreleaser.bundle.RB;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -49,6 +53,21 @@ public class Env {
         return System.getenv(prefix(key));
     }
 
+    /**
+     * Returns the directory where downloads and other data shared by all JReleaser runs of the current user
+     * are cached, {@code $JRELEASER_USER_HOME/caches} which defaults to {@code ~/.jreleaser/caches}.
+     *
+     * @since 1.0.0
+     */
+    public static Path resolveJReleaserCacheDir() {
+        String home = System.getenv("JRELEASER_USER_HOME");
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+
+        return Paths.get(home).resolve("caches");
+    }
+
     public static String check(String key, String value, String property, String dsl, String configFilePath, Errors errors) {
         if (isBlank(value)) {
             String prefixedKey = prefix(key);
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identifies the contents of a file by its size, modification time and file key (inode)
+ * without having to read it.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class FileFingerprint {
+    private static final String NO_FILE_KEY = "-";
+
+    private final long size;
+    private final long lastModified;
+    private final String fileKey;
+
+    private FileFingerprint(long size, long lastModified, String fileKey) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.fileKey = fileKey;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getFileKey() {
+        return fileKey;
+    }
+
+    public static FileFingerprint of(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Object key = attributes.fileKey();
+        return new FileFingerprint(attributes.size(),
+            attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+            null != key ? key.toString().replace('|', '_') : NO_FILE_KEY);
+    }
+
+    /**
+     * Parses a fingerprint written by {@link #toString()}.
+     *
+     * @return the parsed fingerprint or {@code null} if the input is malformed
+     */
+    public static FileFingerprint parse(String str) {
+        if (StringUtils.isBlank(str)) return null;
+
+        String[] parts = str.split("\\|", 3);
+        if (parts.length != 3) return null;
+
+        try {
+            return new FileFingerprint(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FileFingerprint that = (FileFingerprint) o;
+        return size == that.size &&
+            lastModified == that.lastModified &&
+            fileKey.equals(that.fileKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, lastModified, fileKey);
+    }
+
+    @Override
+    public String toString() {
+        return size + "|" + lastModified + "|" + fileKey;
+    }
+}
@@ -24,6 +24,7 @@ import org.jreleaser.util.command.CommandException;
 import org.jreleaser.util.command.CommandExecutor;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -32,6 +33,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static java.nio.file.StandardOpenOption.WRITE;
+import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -102,6 +104,43 @@ public final class GpgCommandSigner {
             .executeCommand(cmd) == 0;
     }
 
+    /**
+     * Returns the fingerprints of the secret keys matching the configured key name, primary keys and subkeys
+     * in the order listed by gpg, or {@code null} if no key name is set or no key matches.
+     */
+    public List<String> fingerprints() throws CommandException {
+        if (isBlank(keyName)) return null;
+
+        Command cmd = new Command(executable)
+            .args(args);
+
+        if (isNotBlank(homeDir)) {
+            cmd.arg("--homedir")
+                .arg(homeDir);
+        }
+
+        cmd.arg("--batch")
+            .arg("--with-colons")
+            .arg("--list-secret-keys")
+            .arg(keyName);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (new CommandExecutor(logger, true).executeCommandCapturing(cmd, out) != 0) {
+            return null;
+        }
+
+        List<String> fingerprints = new ArrayList<>();
+        for (String line : out.toString().split("\\r?\\n")) {
+            // fpr:::::::::<fingerprint>:
+            String[] fields = line.split(":", -1);
+            if ("fpr".equals(fields[0]) && fields.length > 9 && isNotBlank(fields[9])) {
+                fingerprints.add(fields[9]);
+            }
+        }
+
+        return fingerprints.isEmpty() ? null : fingerprints;
+    }
+
     public byte[] sign(byte[] in) throws CommandException {
         try {
             Path input = Files.createTempFile("jreleaser", "sign-input");
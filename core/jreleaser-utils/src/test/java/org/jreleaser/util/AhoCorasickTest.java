@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class AhoCorasickTest {
+    @Test
+    public void testFindsOverlappingLiterals() {
+        // given:
+        AhoCorasick matcher = new AhoCorasick(Arrays.asList("he", "she", "his", "hers"));
+
+        // when:
+        BitSet found = matcher.matches("ushers");
+
+        // then:
+        assertThat(found.toString(), equalTo("{0, 1, 3}"));
+    }
+
+    @Test
+    public void testMatchesLikeContains() {
+        // given:
+        String text = "fix: handle feature flags [skip ci]";
+        List<String> literals = Arrays.asList("fix", "feat", "[skip ci]", "docs", "ure fl", "");
+        AhoCorasick matcher = new AhoCorasick(literals);
+
+        // when:
+        BitSet found = matcher.matches(text);
+
+        // then:
+        for (int i = 0; i < literals.size(); i++) {
+            assertThat(literals.get(i), found.get(i), equalTo(text.contains(literals.get(i))));
+        }
+    }
+
+    @Test
+    public void testNoLiterals() {
+        // expect:
+        assertThat(new AhoCorasick(Collections.emptyList()).matches("anything").isEmpty(), equalTo(true));
+    }
+}
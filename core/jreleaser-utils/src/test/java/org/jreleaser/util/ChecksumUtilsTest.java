@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class ChecksumUtilsTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testStreamingChecksumsMatchInMemoryChecksums() throws Exception {
+        // given:
+        byte[] data = new byte[300 * 1024 + 17];
+        new Random(42).nextBytes(data);
+        Path input = tempDir.resolve("artifact.bin");
+        Files.write(input, data);
+        EnumSet<Algorithm> algorithms = EnumSet.of(Algorithm.MD5, Algorithm.RMD160, Algorithm.SHA_1,
+            Algorithm.SHA_256, Algorithm.SHA_512);
+
+        // when:
+        Map<Algorithm, String> checksums = ChecksumUtils.checksum(algorithms, input);
+
+        // then:
+        assertThat(checksums.keySet(), equalTo(algorithms));
+        for (Algorithm algorithm : algorithms) {
+            assertThat(checksums.get(algorithm), equalTo(ChecksumUtils.checksum(algorithm, data)));
+        }
+    }
+
+    @Test
+    public void testSingleAlgorithmChecksum() throws Exception {
+        // given:
+        Path input = tempDir.resolve("artifact.txt");
+        Files.write(input, "jreleaser".getBytes(StandardCharsets.UTF_8));
+
+        // expect:
+        assertThat(ChecksumUtils.checksum(Algorithm.SHA_256, input),
+            equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, "jreleaser".getBytes(StandardCharsets.UTF_8))));
+    }
+}
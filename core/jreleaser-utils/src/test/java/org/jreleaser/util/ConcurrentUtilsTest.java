@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class ConcurrentUtilsTest {
+    private static final List<Integer> INPUTS = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+    @Test
+    public void testResultsFollowInputOrder() {
+        // when: later inputs finish first
+        List<Integer> results = ConcurrentUtils.mapAll("test", 4, INPUTS, i -> {
+            sleep((INPUTS.size() - i) * 5L);
+            return i * 2;
+        });
+
+        // then:
+        assertThat(results, equalTo(Arrays.asList(0, 2, 4, 6, 8, 10, 12, 14, 16, 18)));
+    }
+
+    @Test
+    public void testOnCompleteIsDeliveredInInputOrderOnCallingThread() {
+        // given:
+        Thread caller = Thread.currentThread();
+        List<Integer> completed = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        // when:
+        ConcurrentUtils.mapAll("test", 4, INPUTS, i -> {
+            sleep((INPUTS.size() - i) * 5L);
+            return i;
+        }, (input, result) -> {
+            assertThat(result, equalTo(input));
+            completed.add(input);
+            threads.add(Thread.currentThread());
+        });
+
+        // then:
+        assertThat(completed, equalTo(INPUTS));
+        assertThat(threads, everyItem(sameInstance(caller)));
+    }
+
+    @Test
+    public void testFirstFailureCancelsPendingTasksAndIsRethrown() {
+        // given:
+        IllegalStateException failure = new IllegalStateException("boom");
+        AtomicInteger started = new AtomicInteger();
+        List<Integer> completed = new ArrayList<>();
+
+        // when:
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+            ConcurrentUtils.mapAll("test", 2, INPUTS, i -> {
+                started.incrementAndGet();
+                if (i == 0) throw failure;
+                // blocks until cancelled
+                sleep(TimeUnit.SECONDS.toMillis(30));
+                return i;
+            }, (input, result) -> completed.add(input)));
+
+        // then:
+        assertThat(thrown, sameInstance(failure));
+        assertThat(started.get(), lessThan(INPUTS.size()));
+        assertThat(completed.size(), equalTo(0));
+    }
+
+    @Test
+    public void testSequentialPathRunsOnCallingThread() {
+        // given:
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+        List<Integer> completed = new ArrayList<>();
+
+        // when:
+        List<Integer> results = ConcurrentUtils.mapAll("test", 1, INPUTS, i -> {
+            threads.add(Thread.currentThread());
+            return i + 1;
+        }, (input, result) -> completed.add(input));
+
+        // then:
+        assertThat(results, equalTo(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+        assertThat(completed, equalTo(INPUTS));
+        assertThat(threads, everyItem(sameInstance(caller)));
+    }
+
+    @Test
+    public void testSequentialPathStopsAtFirstFailure() {
+        // given:
+        IllegalStateException failure = new IllegalStateException("boom");
+        List<Integer> started = new ArrayList<>();
+
+        // when:
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+            ConcurrentUtils.mapAll("test", 0, INPUTS, i -> {
+                started.add(i);
+                if (i == 2) throw failure;
+                return i;
+            }));
+
+        // then:
+        assertThat(thrown, sameInstance(failure));
+        assertThat(started, equalTo(Arrays.asList(0, 1, 2)));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
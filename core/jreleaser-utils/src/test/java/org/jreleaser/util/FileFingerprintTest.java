@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class FileFingerprintTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testFingerprintRoundTrip() throws Exception {
+        // given:
+        Path file = tempDir.resolve("artifact.zip");
+        Files.write(file, new byte[]{1, 2, 3});
+
+        // when:
+        FileFingerprint fingerprint = FileFingerprint.of(file);
+
+        // then:
+        assertThat(fingerprint.getSize(), equalTo(3L));
+        assertThat(FileFingerprint.parse(fingerprint.toString()), equalTo(fingerprint));
+    }
+
+    @Test
+    public void testFingerprintChangesWithModificationTime() throws Exception {
+        // given:
+        Path file = tempDir.resolve("artifact.zip");
+        Files.write(file, new byte[]{1, 2, 3});
+        FileFingerprint before = FileFingerprint.of(file);
+
+        // when:
+        Files.setLastModifiedTime(file, FileTime.fromMillis(before.getLastModified() / 1_000_000L + 5000L));
+
+        // then:
+        assertThat(FileFingerprint.of(file), not(equalTo(before)));
+    }
+
+    @Test
+    public void testParseMalformedInput() {
+        // expect:
+        assertThat(FileFingerprint.parse("not-a-fingerprint"), nullValue());
+        assertThat(FileFingerprint.parse("a|b|c"), nullValue());
+    }
+}
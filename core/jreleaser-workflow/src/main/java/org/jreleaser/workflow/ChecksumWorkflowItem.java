@@ -17,16 +17,43 @@
  */
 package org.jreleaser.workflow;
 
+import org.jreleaser.bundle.RB;
 import org.jreleaser.engine.checksum.Checksum;
+import org.jreleaser.engine.sign.Sealer;
 import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.JReleaserException;
+import org.jreleaser.util.signing.SigningException;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class ChecksumWorkflowItem implements WorkflowItem {
+    private final boolean seal;
+
+    ChecksumWorkflowItem() {
+        this(false);
+    }
+
+    /**
+     * @param seal whether files should also be signed while calculating checksums.
+     *             Only makes sense if the workflow signs files afterwards.
+     */
+    ChecksumWorkflowItem(boolean seal) {
+        this.seal = seal;
+    }
+
     @Override
     public void invoke(JReleaserContext context) {
-        Checksum.collectAndWriteChecksums(context);
+        if (!seal) {
+            Checksum.collectAndWriteChecksums(context);
+            return;
+        }
+
+        try {
+            Sealer.seal(context);
+        } catch (SigningException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_release_sign"), e);
+        }
     }
 }
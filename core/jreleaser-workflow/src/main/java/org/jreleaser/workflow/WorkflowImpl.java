@@ -20,6 +20,8 @@ package org.jreleaser.workflow;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.engine.context.ModelValidator;
 import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.sdk.commons.HttpClientPool;
+import org.jreleaser.sdk.s3.S3ClientPool;
 import org.jreleaser.util.JReleaserException;
 
 import java.time.Duration;
@@ -61,14 +63,19 @@ class WorkflowImpl implements Workflow {
         logFilters("workflow.included.announcers", context.getIncludedAnnouncers());
         logFilters("workflow.excluded.announcers", context.getExcludedAnnouncers());
 
-        for (WorkflowItem item : items) {
-            try {
-                item.invoke(context);
-            } catch (JReleaserException e) {
-                // terminate
-                exception = e;
-                break;
+        try {
+            for (WorkflowItem item : items) {
+                try {
+                    item.invoke(context);
+                } catch (JReleaserException e) {
+                    // terminate
+                    exception = e;
+                    break;
+                }
             }
+        } finally {
+            HttpClientPool.close(context);
+            S3ClientPool.close(context);
         }
         Instant end = Instant.now();
 
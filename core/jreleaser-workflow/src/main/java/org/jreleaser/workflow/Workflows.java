@@ -52,7 +52,7 @@ public class Workflows {
     public static Workflow sign(JReleaserContext context) {
         context.setCommand(JReleaserCommand.SIGN);
         return new WorkflowImpl(context, asList(
-            new ChecksumWorkflowItem(),
+            new ChecksumWorkflowItem(true),
             new SignWorkflowItem()
         ));
     }
@@ -60,7 +60,7 @@ public class Workflows {
     public static Workflow upload(JReleaserContext context) {
         context.setCommand(JReleaserCommand.UPLOAD);
         return new WorkflowImpl(context, asList(
-            new ChecksumWorkflowItem(),
+            new ChecksumWorkflowItem(true),
             new SignWorkflowItem(),
             new UploadWorkflowItem()
         ));
@@ -70,7 +70,7 @@ public class Workflows {
         context.setCommand(JReleaserCommand.RELEASE);
         return new WorkflowImpl(context, asList(
             new ChangelogWorkflowItem(),
-            new ChecksumWorkflowItem(),
+            new ChecksumWorkflowItem(true),
             new SignWorkflowItem(),
             new UploadWorkflowItem(),
             new ReleaseWorkflowItem()
@@ -116,7 +116,7 @@ public class Workflows {
         context.setCommand(JReleaserCommand.FULL_RELEASE);
         return new WorkflowImpl(context, asList(
             new ChangelogWorkflowItem(),
-            new ChecksumWorkflowItem(),
+            new ChecksumWorkflowItem(true),
             new SignWorkflowItem(),
             new UploadWorkflowItem(),
             new ReleaseWorkflowItem(),
@@ -40,6 +40,8 @@ interface Artifactory extends HttpUploader {
 
     void setAuthorization(String authorization)
 
+    Property<Boolean> getChecksumDeploy()
+
     void repository(Action<? super ArtifactoryRepository> action)
 
     void repository(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = ArtifactoryRepository) Closure<Void> action)
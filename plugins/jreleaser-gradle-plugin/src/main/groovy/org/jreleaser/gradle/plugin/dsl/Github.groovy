@@ -30,6 +30,8 @@ import org.gradle.api.provider.Property
 interface Github extends GitService {
     Property<Boolean> getDraft()
 
+    Property<Boolean> getSyncAssets()
+
     Property<String> getDiscussionCategoryName()
 
     Prerelease getPrerelease()
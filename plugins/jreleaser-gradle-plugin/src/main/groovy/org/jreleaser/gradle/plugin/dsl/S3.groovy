@@ -44,6 +44,14 @@ interface S3 extends Uploader {
 
     Property<String> getDownloadUrl()
 
+    Property<Integer> getPartSize()
+
+    Property<Integer> getPartParallelism()
+
+    Property<Boolean> getSync()
+
+    Property<Boolean> getPathStyleAccess()
+
     MapProperty<String, String> getHeaders()
 
     void setHeader(String key, String value)
@@ -56,6 +56,8 @@ interface Signing extends Activatable {
 
     Property<Boolean> getChecksums()
 
+    Property<Integer> getParallelism()
+
     Property<Boolean> getDefaultKeyring()
 
     ListProperty<String> getArgs()
@@ -31,6 +31,8 @@ import org.gradle.api.provider.Property
 interface Upload {
     Property<Boolean> getEnabled()
 
+    Property<Integer> getParallelism()
+
     NamedDomainObjectContainer<Artifactory> getArtifactory()
 
     NamedDomainObjectContainer<Http> getHttp()
@@ -38,4 +38,6 @@ interface Uploader extends Activatable, ExtraProperties {
     Property<Boolean> getSignatures()
 
     Property<Boolean> getChecksums()
+
+    Property<Integer> getParallelism()
 }
\ No newline at end of file
@@ -48,6 +48,7 @@ class ArtifactoryImpl extends AbstractHttpUploader implements Artifactory {
     final Property<String> username
     final Property<String> password
     final Property<HttpUploader.Authorization> authorization
+    final Property<Boolean> checksumDeploy
 
     final NamedDomainObjectContainer<ArtifactoryRepositoryImpl> repositories
 
@@ -58,6 +59,7 @@ class ArtifactoryImpl extends AbstractHttpUploader implements Artifactory {
         username = objects.property(String).convention(Providers.notDefined())
         password = objects.property(String).convention(Providers.notDefined())
         authorization = objects.property(HttpUploader.Authorization).convention(Providers.notDefined())
+        checksumDeploy = objects.property(Boolean).convention(Providers.notDefined())
 
         repositories = objects.domainObjectContainer(ArtifactoryRepositoryImpl, new NamedDomainObjectFactory<ArtifactoryRepositoryImpl>() {
             @Override
@@ -76,7 +78,8 @@ class ArtifactoryImpl extends AbstractHttpUploader implements Artifactory {
             host.present ||
             username.present ||
             password.present ||
-            authorization.present
+            authorization.present ||
+            checksumDeploy.present
     }
 
     @Override
@@ -102,6 +105,7 @@ class ArtifactoryImpl extends AbstractHttpUploader implements Artifactory {
         if (username.present) artifactory.username = username.get()
         if (password.present) artifactory.password = password.get()
         if (authorization.present) artifactory.authorization = authorization.get()
+        if (checksumDeploy.present) artifactory.checksumDeploy = checksumDeploy.get()
         for (ArtifactoryRepositoryImpl repository : repositories) {
             artifactory.addRepository(repository.toModel())
         }
@@ -36,6 +36,7 @@ import javax.inject.Inject
 @CompileStatic
 class GithubImpl extends AbstractGitService implements Github {
     final Property<Boolean> draft
+    final Property<Boolean> syncAssets
     final Property<String> discussionCategoryName
     final ChangelogImpl changelog
     final MilestoneImpl milestone
@@ -46,6 +47,7 @@ class GithubImpl extends AbstractGitService implements Github {
     GithubImpl(ObjectFactory objects) {
         super(objects)
         draft = objects.property(Boolean).convention(Providers.notDefined())
+        syncAssets = objects.property(Boolean).convention(Providers.notDefined())
         discussionCategoryName = objects.property(String).convention(Providers.notDefined())
 
         changelog = objects.newInstance(ChangelogImpl, objects)
@@ -59,6 +61,7 @@ class GithubImpl extends AbstractGitService implements Github {
     boolean isSet() {
         super.isSet() ||
             draft.present ||
+            syncAssets.present ||
             prerelease.isSet() ||
             discussionCategoryName.present ||
             changelog.isSet() ||
@@ -80,6 +83,7 @@ class GithubImpl extends AbstractGitService implements Github {
         org.jreleaser.model.Github service = new org.jreleaser.model.Github()
         toModel(service)
         if (draft.present) service.draft = draft.get()
+        if (syncAssets.present) service.syncAssets = syncAssets.get()
         service.prerelease = prerelease.toModel()
         if (discussionCategoryName.present) service.discussionCategoryName = discussionCategoryName.get()
         if (changelog.isSet()) service.changelog = changelog.toModel()
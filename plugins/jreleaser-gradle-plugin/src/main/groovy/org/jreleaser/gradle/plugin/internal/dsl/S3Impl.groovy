@@ -45,6 +45,10 @@ class S3Impl extends AbstractUploader implements S3 {
     final Property<String> endpoint
     final Property<String> path
     final Property<String> downloadUrl
+    final Property<Integer> partSize
+    final Property<Integer> partParallelism
+    final Property<Boolean> sync
+    final Property<Boolean> pathStyleAccess
     final MapProperty<String, String> headers
 
     @Inject
@@ -58,6 +62,10 @@ class S3Impl extends AbstractUploader implements S3 {
         endpoint = objects.property(String).convention(Providers.notDefined())
         path = objects.property(String).convention(Providers.notDefined())
         downloadUrl = objects.property(String).convention(Providers.notDefined())
+        partSize = objects.property(Integer).convention(Providers.notDefined())
+        partParallelism = objects.property(Integer).convention(Providers.notDefined())
+        sync = objects.property(Boolean).convention(Providers.notDefined())
+        pathStyleAccess = objects.property(Boolean).convention(Providers.notDefined())
         headers = objects.mapProperty(String, String).convention(Providers.notDefined())
     }
 
@@ -73,6 +81,10 @@ class S3Impl extends AbstractUploader implements S3 {
             endpoint.present ||
             path.present ||
             downloadUrl.present ||
+            partSize.present ||
+            partParallelism.present ||
+            sync.present ||
+            pathStyleAccess.present ||
             headers.present
     }
 
@@ -95,6 +107,10 @@ class S3Impl extends AbstractUploader implements S3 {
         if (endpoint.present) s3.endpoint = endpoint.get()
         if (path.present) s3.path = path.get()
         if (downloadUrl.present) s3.downloadUrl = downloadUrl.get()
+        if (partSize.present) s3.partSize = partSize.get()
+        if (partParallelism.present) s3.partParallelism = partParallelism.get()
+        if (sync.present) s3.sync = sync.get()
+        if (pathStyleAccess.present) s3.pathStyleAccess = pathStyleAccess.get()
         if (headers.present) s3.headers.putAll(headers.get())
         s3
     }
@@ -49,6 +49,7 @@ class SigningImpl implements Signing {
     final Property<Boolean> artifacts
     final Property<Boolean> files
     final Property<Boolean> checksums
+    final Property<Integer> parallelism
     final Command command
     final Cosign cosign
 
@@ -63,6 +64,7 @@ class SigningImpl implements Signing {
         artifacts = objects.property(Boolean).convention(Providers.notDefined())
         files = objects.property(Boolean).convention(Providers.notDefined())
         checksums = objects.property(Boolean).convention(Providers.notDefined())
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
         command = objects.newInstance(CommandImpl, objects)
         cosign = objects.newInstance(CosignImpl, objects)
     }
@@ -76,6 +78,7 @@ class SigningImpl implements Signing {
             artifacts.present ||
             files.present ||
             checksums.present ||
+            parallelism.present ||
             secretKey.present ||
             ((CommandImpl) command).isSet() ||
             ((CosignImpl) cosign).isSet()
@@ -168,6 +171,7 @@ class SigningImpl implements Signing {
         if (artifacts.present) signing.artifacts = artifacts.get()
         if (files.present) signing.files = files.get()
         if (checksums.present) signing.checksums = checksums.get()
+        if (parallelism.present) signing.parallelism = parallelism.get()
         signing.command = ((CommandImpl) command).toModel()
         signing.cosign = ((CosignImpl) cosign).toModel()
         signing.args = (List<String>) args.getOrElse([])
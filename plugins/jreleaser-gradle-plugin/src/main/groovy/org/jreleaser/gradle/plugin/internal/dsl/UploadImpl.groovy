@@ -22,6 +22,7 @@ import groovy.transform.CompileStatic
 import org.gradle.api.Action
 import org.gradle.api.NamedDomainObjectContainer
 import org.gradle.api.NamedDomainObjectFactory
+import org.gradle.api.internal.provider.Providers
 import org.gradle.api.model.ObjectFactory
 import org.gradle.api.provider.Property
 import org.jreleaser.gradle.plugin.dsl.Artifactory
@@ -40,6 +41,7 @@ import javax.inject.Inject
 @CompileStatic
 class UploadImpl implements Upload {
     final Property<Boolean> enabled
+    final Property<Integer> parallelism
     final NamedDomainObjectContainer<Artifactory> artifactory
     final NamedDomainObjectContainer<Http> http
     final NamedDomainObjectContainer<S3> s3
@@ -47,6 +49,7 @@ class UploadImpl implements Upload {
     @Inject
     UploadImpl(ObjectFactory objects) {
         enabled = objects.property(Boolean).convention(true)
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
 
         artifactory = objects.domainObjectContainer(Artifactory, new NamedDomainObjectFactory<Artifactory>() {
             @Override
@@ -109,6 +112,7 @@ class UploadImpl implements Upload {
     @CompileDynamic
     org.jreleaser.model.Upload toModel() {
         org.jreleaser.model.Upload upload = new org.jreleaser.model.Upload()
+        if (parallelism.present) upload.parallelism = parallelism.get()
 
         artifactory.each { upload.addArtifactory(((ArtifactoryImpl) it).toModel()) }
         http.each { upload.addHttp(((HttpImpl) it).toModel()) }
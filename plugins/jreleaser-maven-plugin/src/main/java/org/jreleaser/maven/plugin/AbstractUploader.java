@@ -37,6 +37,7 @@ abstract class AbstractUploader implements Uploader {
     private Boolean files;
     private Boolean signatures;
     private Boolean checksums;
+    private int parallelism;
 
     protected AbstractUploader(String type) {
         this.type = type;
@@ -52,6 +53,7 @@ abstract class AbstractUploader implements Uploader {
         this.files = uploader.files;
         this.signatures = uploader.signatures;
         this.checksums = uploader.checksums;
+        this.parallelism = uploader.parallelism;
         setExtraProperties(uploader.extraProperties);
     }
 
@@ -175,4 +177,14 @@ abstract class AbstractUploader implements Uploader {
     public void setChecksums(Boolean checksums) {
         this.checksums = checksums;
     }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
 }
@@ -37,6 +37,7 @@ public class Artifactory extends AbstractUploader {
     private String username;
     private String password;
     private HttpUploader.Authorization authorization;
+    private Boolean checksumDeploy;
 
     public Artifactory() {
         super(NAME);
@@ -82,6 +83,18 @@ public class Artifactory extends AbstractUploader {
         this.authorization = authorization;
     }
 
+    public Boolean isChecksumDeploy() {
+        return checksumDeploy != null && checksumDeploy;
+    }
+
+    public void setChecksumDeploy(Boolean checksumDeploy) {
+        this.checksumDeploy = checksumDeploy;
+    }
+
+    public boolean isChecksumDeploySet() {
+        return checksumDeploy != null;
+    }
+
     public List<ArtifactoryRepository> getRepositories() {
         return repositories;
     }
@@ -31,12 +31,14 @@ public class Checksum {
     private Boolean individual;
     private String name;
     private Boolean files;
+    private int parallelism;
 
     void setAll(Checksum checksum) {
         this.name = checksum.name;
         this.individual = checksum.individual;
         setAlgorithms(checksum.algorithms);
         this.files = checksum.files;
+        this.parallelism = checksum.parallelism;
     }
 
     public String getName() {
@@ -79,4 +81,12 @@ public class Checksum {
     public void setFiles(Boolean files) {
         this.files = files;
     }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
 }
@@ -57,6 +57,7 @@ public abstract class GitService implements Releaser {
     private String apiEndpoint;
     private int connectTimeout;
     private int readTimeout;
+    private int uploadParallelism;
     private Boolean artifacts;
     private Boolean files;
     private Boolean checksums;
@@ -419,6 +420,14 @@ public abstract class GitService implements Releaser {
         this.readTimeout = readTimeout;
     }
 
+    public int getUploadParallelism() {
+        return uploadParallelism;
+    }
+
+    public void setUploadParallelism(int uploadParallelism) {
+        this.uploadParallelism = uploadParallelism;
+    }
+
     public boolean isArtifactsSet() {
         return artifacts != null;
     }
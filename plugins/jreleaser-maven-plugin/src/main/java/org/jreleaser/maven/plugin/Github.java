@@ -24,6 +24,7 @@ package org.jreleaser.maven.plugin;
 public class Github extends GitService {
     private final Prerelease prerelease = new Prerelease();
     private boolean draft;
+    private Boolean syncAssets;
     private Boolean prereleaseEnabled;
     private String discussionCategoryName;
 
@@ -35,6 +36,18 @@ public class Github extends GitService {
         this.draft = draft;
     }
 
+    public Boolean isSyncAssets() {
+        return syncAssets != null && syncAssets;
+    }
+
+    public void setSyncAssets(Boolean syncAssets) {
+        this.syncAssets = syncAssets;
+    }
+
+    public boolean isSyncAssetsSet() {
+        return syncAssets != null;
+    }
+
     public Prerelease getPrerelease() {
         return prerelease;
     }
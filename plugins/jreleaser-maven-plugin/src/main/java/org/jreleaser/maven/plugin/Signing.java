@@ -37,6 +37,7 @@ public class Signing implements Activatable {
     private Boolean artifacts;
     private Boolean files;
     private Boolean checksums;
+    private int parallelism;
 
     void setAll(Signing signing) {
         this.active = signing.active;
@@ -47,6 +48,7 @@ public class Signing implements Activatable {
         this.artifacts = signing.artifacts;
         this.files = signing.files;
         this.checksums = signing.checksums;
+        this.parallelism = signing.parallelism;
         setCommand(signing.command);
         setCosign(signing.cosign);
     }
@@ -146,6 +148,14 @@ public class Signing implements Activatable {
         this.checksums = checksums;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Command getCommand() {
         return command;
     }
@@ -29,9 +29,11 @@ public class Upload implements EnabledAware {
     private final Map<String, Http> http = new LinkedHashMap<>();
     private final Map<String, S3> s3 = new LinkedHashMap<>();
     private Boolean enabled;
+    private int parallelism;
 
     void setAll(Upload upload) {
         this.enabled = upload.enabled;
+        this.parallelism = upload.parallelism;
         setArtifactory(upload.artifactory);
         setHttp(upload.http);
         setS3(upload.s3);
@@ -52,6 +54,14 @@ public class Upload implements EnabledAware {
         return enabled != null;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Map<String, Artifactory> getArtifactory() {
         return artifactory;
     }
@@ -51,4 +51,8 @@ public interface Uploader extends Activatable, TimeoutAware, ExtraProperties {
     Boolean isChecksums();
 
     void setChecksums(Boolean checksums);
+
+    int getParallelism();
+
+    void setParallelism(int parallelism);
 }
@@ -223,6 +223,7 @@ public final class JReleaserModelConverter {
         org.jreleaser.model.Github g = new org.jreleaser.model.Github();
         convertGitService(github, g);
         g.setDraft(github.isDraft());
+        if (github.isSyncAssetsSet()) g.setSyncAssets(github.isSyncAssets());
         if (github.isPrereleaseEnabledSet())
             g.setPrerelease(new org.jreleaser.model.GitService.Prerelease(github.getPrereleaseEnabled()));
         g.setPrerelease(convertPrerelease(github.getPrerelease()));
@@ -307,6 +308,7 @@ public final class JReleaserModelConverter {
         s.setMilestone(convertMilestone(service.getMilestone()));
         s.setConnectTimeout(service.getConnectTimeout());
         s.setReadTimeout(service.getReadTimeout());
+        s.setUploadParallelism(service.getUploadParallelism());
         if (service.isArtifactsSet()) s.setArtifacts(service.isArtifacts());
         if (service.isFilesSet()) s.setFiles(service.isFiles());
         if (service.isChecksumsSet()) s.setChecksums(service.isChecksums());
@@ -412,6 +414,7 @@ public final class JReleaserModelConverter {
     private static org.jreleaser.model.Upload convertUpload(Upload upload) {
         org.jreleaser.model.Upload u = new org.jreleaser.model.Upload();
         if (upload.isEnabledSet()) u.setEnabled(upload.isEnabled());
+        u.setParallelism(upload.getParallelism());
         u.setArtifactory(convertArtifactory(upload.getArtifactory()));
         u.setHttp(convertHttp(upload.getHttp()));
         u.setS3(convertS3(upload.getS3()));
@@ -434,6 +437,7 @@ public final class JReleaserModelConverter {
         a.setUsername(tr(artifactory.getUsername()));
         a.setPassword(tr(artifactory.getPassword()));
         a.setAuthorization(tr(artifactory.resolveAuthorization().name()));
+        if (artifactory.isChecksumDeploySet()) a.setChecksumDeploy(artifactory.isChecksumDeploy());
         a.setRepositories(convertRepositories(artifactory.getRepositories()));
         return a;
     }
@@ -464,6 +468,7 @@ public final class JReleaserModelConverter {
         into.setExtraProperties(from.getExtraProperties());
         into.setConnectTimeout(from.getConnectTimeout());
         into.setReadTimeout(from.getReadTimeout());
+        into.setParallelism(from.getParallelism());
         if (from.isArtifactsSet()) into.setArtifacts(from.isArtifacts());
         if (from.isFilesSet()) into.setFiles(from.isFiles());
         if (from.isSignaturesSet()) into.setSignatures(from.isSignatures());
@@ -519,6 +524,10 @@ public final class JReleaserModelConverter {
         s.setEndpoint(tr(s3.getEndpoint()));
         s.setPath(tr(s3.getPath()));
         s.setDownloadUrl(tr(s3.getDownloadUrl()));
+        s.setPartSize(s3.getPartSize());
+        s.setPartParallelism(s3.getPartParallelism());
+        if (s3.isSyncSet()) s.setSync(s3.isSync());
+        if (s3.isPathStyleAccessSet()) s.setPathStyleAccess(s3.isPathStyleAccess());
         s.setHeaders(s3.getHeaders());
         return s;
     }
@@ -976,6 +985,7 @@ public final class JReleaserModelConverter {
         s.setIndividual(checksum.isIndividual());
         s.setAlgorithms(checksum.getAlgorithms());
         if (checksum.isFilesSet()) s.setFiles(checksum.isFiles());
+        s.setParallelism(checksum.getParallelism());
         return s;
     }
 
@@ -990,6 +1000,7 @@ public final class JReleaserModelConverter {
         if (signing.isArtifactsSet()) s.setArtifacts(signing.isArtifacts());
         if (signing.isFilesSet()) s.setFiles(signing.isFiles());
         if (signing.isChecksumsSet()) s.setChecksums(signing.isChecksums());
+        s.setParallelism(signing.getParallelism());
         s.setCommand(convertSigningCommand(signing.getCommand()));
         s.setCosign(convertCosign(signing.getCosign()));
         return s;
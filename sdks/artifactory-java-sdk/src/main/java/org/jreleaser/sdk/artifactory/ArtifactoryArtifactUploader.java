@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Artifactory;
@@ -25,21 +24,24 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
 
 import java.io.IOException;
-import java.nio.file.Path;
 import java.util.Base64;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<Artifactory> {
+    private static final Set<Algorithm> CHECKSUM_ALGORITHMS = EnumSet.of(Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.MD5);
+
     private Artifactory uploader;
 
     public ArtifactoryArtifactUploader(JReleaserContext context) {
@@ -71,44 +73,57 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<Artifa
         String username = uploader.getResolvedUsername();
         String password = uploader.getResolvedPassword();
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
-
-            if (!context.isDryrun()) {
-                try {
-                    FormData data = ClientUtils.toFormData(path);
+        uploadArtifacts(artifacts, (artifact, path) -> {
+            if (context.isDryrun()) return;
 
-                    Map<String, String> headers = new LinkedHashMap<>();
-                    switch (uploader.resolveAuthorization()) {
-                        case BASIC:
-                            String auth = username + ":" + password;
-                            byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
-                            auth = new String(encodedAuth);
-                            headers.put("Authorization", "Basic " + auth);
-                            break;
-                        case BEARER:
-                            headers.put("Authorization", "Bearer " + password);
-                            break;
-                    }
+            try {
+                Map<String, String> headers = new LinkedHashMap<>();
+                switch (uploader.resolveAuthorization()) {
+                    case BASIC:
+                        String auth = username + ":" + password;
+                        byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
+                        auth = new String(encodedAuth);
+                        headers.put("Authorization", "Basic " + auth);
+                        break;
+                    case BEARER:
+                        headers.put("Authorization", "Bearer " + password);
+                        break;
+                }
 
-                    headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
+                Map<Algorithm, String> checksums = context.getArtifactMetadata().of(path).getDigests(CHECKSUM_ALGORITHMS);
+                headers.put("X-Checksum-Sha1", checksums.get(Algorithm.SHA_1));
+                headers.put("X-Checksum-Sha256", checksums.get(Algorithm.SHA_256));
+                headers.put("X-Checksum", checksums.get(Algorithm.MD5));
 
-                    ClientUtils.putFile(context.getLogger(),
-                        uploader.getResolvedUploadUrl(context, artifact),
+                String uploadUrl = uploader.getResolvedUploadUrl(context, artifact);
+                if (uploader.isChecksumDeploy()) {
+                    // Artifactory answers 404 when it does not hold content with these checksums yet
+                    Map<String, String> checksumHeaders = new LinkedHashMap<>(headers);
+                    checksumHeaders.put("X-Checksum-Deploy", "true");
+                    if (ClientUtils.putHeaders(context.getLogger(),
+                        HttpClientPool.of(context),
+                        uploadUrl,
                         uploader.getConnectTimeout(),
                         uploader.getReadTimeout(),
-                        data,
-                        headers);
-                } catch (IOException e) {
-                    context.getLogger().trace(e);
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e);
+                        checksumHeaders)) {
+                        context.getLogger().debug(RB.$("artifactory.checksum.deploy"), path.getFileName());
+                        return;
+                    }
                 }
+
+                headers.put("X-Checksum-Deploy", "false");
+                ClientUtils.putFile(context.getLogger(),
+                    HttpClientPool.of(context),
+                    uploadUrl,
+                    uploader.getConnectTimeout(),
+                    uploader.getReadTimeout(),
+                    path,
+                    headers);
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+                throw new UploadException(RB.$("ERROR_unexpected_upload",
+                    context.getBasedir().relativize(path)), e);
             }
-        }
+        });
     }
 }
@@ -22,6 +22,7 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.MustacheUtils;
 
@@ -69,6 +70,7 @@ public class DiscordAnnouncer implements Announcer {
 
         if (!context.isDryrun()) {
             ClientUtils.webhook(context.getLogger(),
+                HttpClientPool.of(context),
                 discord.getResolvedWebhook(),
                 discord.getConnectTimeout(),
                 discord.getReadTimeout(),
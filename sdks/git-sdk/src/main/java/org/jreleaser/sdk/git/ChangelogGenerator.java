@@ -23,6 +23,7 @@ import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Changelog;
 import org.jreleaser.model.GitService;
@@ -30,9 +31,14 @@ import org.jreleaser.model.Gitlab;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Project;
 import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.util.AhoCorasick;
+import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.CalVer;
+import org.jreleaser.util.ChecksumUtils;
 import org.jreleaser.util.ChronVer;
 import org.jreleaser.util.CollectionUtils;
+import org.jreleaser.util.ComparatorUtils;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.CustomVersion;
 import org.jreleaser.util.JavaModuleVersion;
 import org.jreleaser.util.JavaRuntimeVersion;
@@ -42,6 +48,7 @@ import org.jreleaser.util.Version;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -50,15 +57,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.groupingBy;
 import static org.jreleaser.sdk.git.GitSdk.extractTagName;
-import static org.jreleaser.util.ComparatorUtils.lessThan;
 import static org.jreleaser.util.Constants.KEY_CHANGELOG_CHANGES;
 import static org.jreleaser.util.Constants.KEY_CHANGELOG_CONTRIBUTORS;
 import static org.jreleaser.util.MustacheUtils.applyTemplate;
@@ -76,6 +82,8 @@ import static org.jreleaser.util.Templates.resolveTemplate;
 public class ChangelogGenerator {
     private static final String UNCATEGORIZED = "<<UNCATEGORIZED>>";
     private static final String REGEX_PREFIX = "regex:";
+    // user lookups go through search APIs with tight rate limits
+    private static final int USER_LOOKUP_PARALLELISM = 4;
 
     private final Set<String> unparseableTags = new LinkedHashSet<>();
 
@@ -96,32 +104,67 @@ public class ChangelogGenerator {
         try {
             Git git = GitSdk.of(context).open();
             context.getLogger().debug(RB.$("changelog.generator.resolve.commits"));
-            Iterable<RevCommit> commits = resolveCommits(git, context);
+            CommitRange range = resolveCommits(git, context);
 
-            Comparator<RevCommit> revCommitComparator = Comparator.comparing(RevCommit::getCommitTime).reversed();
-            if (changelog.getSort() == Changelog.Sort.ASC) {
-                revCommitComparator = Comparator.comparing(RevCommit::getCommitTime);
-            }
             context.getLogger().debug(RB.$("changelog.generator.sort.commits"), changelog.getSort());
+            try (RevWalk walk = walk(git, range)) {
+                List<RevCommit> commits = sortCommits(walk, changelog.getSort());
+                if (changelog.resolveFormatted(context.getModel().getProject())) {
+                    return formatChangelog(context, changelog, walk, commits, commitSeparator);
+                }
 
-            if (changelog.resolveFormatted(context.getModel().getProject())) {
-                return formatChangelog(context, changelog, commits, revCommitComparator, commitSeparator);
+                String commitsUrl = gitService.getResolvedCommitUrl(context.getModel());
+
+                StringBuilder b = new StringBuilder("## Changelog")
+                    .append(lineSeparator())
+                    .append(lineSeparator());
+                boolean first = true;
+                for (RevCommit commit : commits) {
+                    if (!first) b.append(commitSeparator);
+                    walk.parseBody(commit);
+                    b.append(formatCommit(commit, commitsUrl, changelog, commitSeparator));
+                    commit.disposeBody();
+                    first = false;
+                }
+                return b.toString();
             }
-
-            String commitsUrl = gitService.getResolvedCommitUrl(context.getModel());
-
-            return "## Changelog" +
-                lineSeparator() +
-                lineSeparator() +
-                StreamSupport.stream(commits.spliterator(), false)
-                    .sorted(revCommitComparator)
-                    .map(commit -> formatCommit(commit, commitsUrl, changelog, commitSeparator))
-                    .collect(Collectors.joining(commitSeparator));
         } catch (GitAPIException e) {
             throw new IOException(e);
         }
     }
 
+    /**
+     * Walks {@code range} in the same order as {@code git log}. Commit bodies are not retained,
+     * callers parse and dispose them one commit at a time.
+     */
+    private RevWalk walk(Git git, CommitRange range) throws IOException {
+        RevWalk walk = new RevWalk(git.getRepository());
+        walk.setRetainBody(false);
+
+        walk.markStart(walk.parseCommit(range.until));
+        if (null != range.since) {
+            walk.markUninteresting(walk.parseCommit(range.since));
+        }
+        return walk;
+    }
+
+    /**
+     * Orders commits strictly by commit time, commits with the same time keep their walk order.
+     * The walk holds every commit anyway and bodies are not retained, so only references are buffered.
+     */
+    static List<RevCommit> sortCommits(RevWalk walk, Changelog.Sort sort) {
+        Comparator<RevCommit> comparator = Comparator.comparing(RevCommit::getCommitTime);
+        if (sort != Changelog.Sort.ASC) {
+            comparator = comparator.reversed();
+        }
+
+        List<RevCommit> commits = new ArrayList<>();
+        walk.forEach(commits::add);
+        // List.sort is stable
+        commits.sort(comparator);
+        return commits;
+    }
+
     private String formatCommit(RevCommit commit, String commitsUrl, Changelog changelog, String commitSeparator) {
         String commitHash = commit.getId().name();
         String abbreviation = commit.getId().abbreviate(7).name();
@@ -259,8 +302,8 @@ public class ChangelogGenerator {
         }
     }
 
-    private Iterable<RevCommit> resolveCommits(Git git, JReleaserContext context) throws GitAPIException, IOException {
-        List<Ref> tags = git.tagList().call();
+    private CommitRange resolveCommits(Git git, JReleaserContext context) throws GitAPIException, IOException {
+        List<Ref> refs = git.tagList().call();
 
         GitService gitService = context.getModel().getRelease().getGitService();
         String effectiveTagName = gitService.getEffectiveTagName(context.getModel());
@@ -273,26 +316,23 @@ public class ChangelogGenerator {
         Pattern versionPattern = vp;
 
         unparseableTags.clear();
-        tags.sort((tag1, tag2) -> {
-            Version v1 = version(context, tag1, versionPattern);
-            Version v2 = version(context, tag2, versionPattern);
-            return v2.compareTo(v1);
-        });
+        // every tag is parsed exactly once, lookups below work on the sorted index
+        TagIndex tags = new TagIndex(git);
+        for (Ref ref : refs) {
+            tags.add(ref, version(context, ref, versionPattern));
+        }
+        tags.sort();
 
         ObjectId head = git.getRepository().resolve(Constants.HEAD);
 
         context.getLogger().debug(RB.$("changelog.generator.lookup.tag"), effectiveTagName);
-        Optional<Ref> tag = tags.stream()
-            .filter(ref -> extractTagName(ref).equals(effectiveTagName))
-            .findFirst();
+        Optional<Tag> tag = tags.named(effectiveTagName);
 
-        Optional<Ref> previousTag = Optional.empty();
+        Optional<Tag> previousTag = Optional.empty();
         String previousTagName = gitService.getConfiguredPreviousTagName();
         if (isNotBlank(previousTagName)) {
             context.getLogger().debug(RB.$("changelog.generator.lookup.previous.tag"), previousTagName);
-            previousTag = tags.stream()
-                .filter(ref -> extractTagName(ref).equals(previousTagName))
-                .findFirst();
+            previousTag = tags.named(previousTagName);
         }
 
         Version currentVersion = currentVersion(context);
@@ -309,20 +349,16 @@ public class ChangelogGenerator {
 
                     if (!tag.isPresent()) {
                         context.getLogger().debug(RB.$("changelog.generator.lookup.matching.tag"), tagPattern, effectiveTagName);
-
-                        tag = tags.stream()
-                            .filter(ref -> !extractTagName(ref).equals(effectiveTagName))
-                            .filter(ref -> currentVersion.equalsSpec(version(context, ref, versionPattern)))
-                            .findFirst();
+                        tag = tags.matchingSpec(currentVersion, effectiveTagName);
                     }
                 }
 
                 if (tag.isPresent()) {
-                    context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(tag.get()));
-                    ObjectId fromRef = getObjectId(git, tag.get());
-                    return git.log().addRange(fromRef, head).call();
+                    context.getLogger().debug(RB.$("changelog.generator.tag.found"), tag.get().name);
+                    ObjectId fromRef = tag.get().objectId();
+                    return new CommitRange(fromRef, head);
                 } else {
-                    return git.log().add(head).call();
+                    return new CommitRange(null, head);
                 }
             }
         }
@@ -335,104 +371,114 @@ public class ChangelogGenerator {
 
             if (!tag.isPresent()) {
                 context.getLogger().debug(RB.$("changelog.generator.lookup.matching.tag"), tagPattern, effectiveTagName);
-                tag = tags.stream()
-                    .filter(ref -> !extractTagName(ref).equals(effectiveTagName))
-                    .filter(ref -> currentVersion.equalsSpec(version(context, ref, versionPattern)))
-                    .findFirst();
+                tag = tags.matchingSpec(currentVersion, effectiveTagName);
             }
 
             if (tag.isPresent()) {
-                context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(tag.get()));
-                ObjectId fromRef = getObjectId(git, tag.get());
-                return git.log().addRange(fromRef, head).call();
+                context.getLogger().debug(RB.$("changelog.generator.tag.found"), tag.get().name);
+                ObjectId fromRef = tag.get().objectId();
+                return new CommitRange(fromRef, head);
             }
 
-            return git.log().add(head).call();
+            return new CommitRange(null, head);
         }
 
         // tag: somewhere in the middle
         if (!previousTag.isPresent()) {
             context.getLogger().debug(RB.$("changelog.generator.lookup.before.tag"), effectiveTagName, tagPattern);
-            previousTag = tags.stream()
-                .filter(ref -> extractTagName(ref).matches(tagPattern))
-                .filter(ref -> lessThan(version(context, ref, versionPattern), currentVersion))
-                .findFirst();
+            previousTag = tags.lessThan(currentVersion, Pattern.compile(tagPattern));
         }
 
         if (previousTag.isPresent()) {
-            context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(previousTag.get()));
-            ObjectId fromRef = getObjectId(git, previousTag.get());
-            ObjectId toRef = getObjectId(git, tag.get());
-            return git.log().addRange(fromRef, toRef).call();
+            context.getLogger().debug(RB.$("changelog.generator.tag.found"), previousTag.get().name);
+            ObjectId fromRef = previousTag.get().objectId();
+            ObjectId toRef = tag.get().objectId();
+            return new CommitRange(fromRef, toRef);
         }
 
-        ObjectId toRef = getObjectId(git, tag.get());
-        return git.log().add(toRef).call();
+        ObjectId toRef = tag.get().objectId();
+        return new CommitRange(null, toRef);
     }
 
-    private ObjectId getObjectId(Git git, Ref ref) throws IOException {
+    private static ObjectId getObjectId(Git git, Ref ref) throws IOException {
         Ref peeled = git.getRepository().getRefDatabase().peel(ref);
         return peeled.getPeeledObjectId() != null ? peeled.getPeeledObjectId() : peeled.getObjectId();
     }
 
     private String formatChangelog(JReleaserContext context,
                                    Changelog changelog,
-                                   Iterable<RevCommit> commits,
-                                   Comparator<RevCommit> revCommitComparator,
-                                   String lineSeparator) {
+                                   RevWalk walk,
+                                   List<RevCommit> commits,
+                                   String lineSeparator) throws IOException {
+        GitService gitService = context.getModel().getRelease().getGitService();
+        String commitsUrl = gitService.getResolvedCommitUrl(context.getModel());
+
+        Map<String, String> formats = new LinkedHashMap<>();
+        for (Changelog.Category category : changelog.getCategories()) {
+            if (changelog.getHide().containsCategory(category.getKey())) continue;
+            formats.putIfAbsent(category.getKey(), resolveCommitFormat(changelog, category));
+        }
+        if (!changelog.getHide().isUncategorized()) {
+            formats.put(UNCATEGORIZED, changelog.getFormat());
+        }
+
         Set<Contributor> contributors = new LinkedHashSet<>();
-        Map<String, List<Commit>> categories = new LinkedHashMap<>();
+        Labelers labelers = new Labelers(changelog.getLabelers());
+        // bodies are only kept around when something reads them
+        boolean retainBody = labelers.usesBody() || formats.values().stream()
+            .anyMatch(format -> isNotBlank(format) && format.contains("commitBody"));
+
+        // commits are rendered as they are walked, only their text is kept per category. The rendered
+        // changelog is handed to the content template as a single string, memory follows its size
+        Map<String, StringJoiner> categories = new LinkedHashMap<>();
+        StringBuilder changes = new StringBuilder();
+        try (CommitCache cache = CommitCache.load(context, labelers.fingerprint())) {
+            for (RevCommit rc : commits) {
+                Commit c = Commit.of(walk, rc, cache, retainBody);
 
-        StreamSupport.stream(commits.spliterator(), false)
-            .sorted(revCommitComparator)
-            .map(Commit::of)
-            .peek(c -> {
-                if (!changelog.getContributors().isEnabled()) return;
+                if (changelog.getContributors().isEnabled()) {
+                    if (!changelog.getHide().containsContributor(c.author.name)) {
+                        contributors.add(new Contributor(c.author));
+                    }
+                    c.commiters.stream()
+                        .filter(author -> !changelog.getHide().containsContributor(author.name))
+                        .forEach(author -> contributors.add(new Contributor(author)));
+                }
 
-                if (!changelog.getHide().containsContributor(c.author.name)) {
-                    contributors.add(new Contributor(c.author));
+                if (null == c.cachedLabels) {
+                    labelers.apply(c);
+                    cache.put(c.asCacheEntry());
                 }
-                c.commiters.stream()
-                    .filter(author -> !changelog.getHide().containsContributor(author.name))
-                    .forEach(author -> contributors.add(new Contributor(author)));
-            })
-            .peek(c -> applyLabels(c, changelog.getLabelers()))
-            .filter(c -> checkLabels(c, changelog))
-            .forEach(commit -> categories
-                .computeIfAbsent(categorize(commit, changelog), k -> new ArrayList<>())
-                .add(commit));
+                if (!checkLabels(c, changelog)) continue;
 
+                String categoryKey = categorize(c, changelog);
+                String format = formats.get(categoryKey);
+                if (null == format) continue;
 
-        GitService gitService = context.getModel().getRelease().getGitService();
-        String commitsUrl = gitService.getResolvedCommitUrl(context.getModel());
+                categories.computeIfAbsent(categoryKey, k -> new StringJoiner(lineSeparator))
+                    .add(resolveTemplate(format, c.asContext(changelog.isLinks(), commitsUrl)));
+            }
+        }
 
-        StringBuilder changes = new StringBuilder();
         for (Changelog.Category category : changelog.getCategories()) {
             String categoryKey = category.getKey();
             if (!categories.containsKey(categoryKey) || changelog.getHide().containsCategory(categoryKey)) continue;
 
             changes.append("## ")
                 .append(category.getTitle())
-                .append(lineSeparator);
-
-            final String categoryFormat = resolveCommitFormat(changelog, category);
-
-            changes.append(categories.get(categoryKey).stream()
-                    .map(c -> resolveTemplate(categoryFormat, c.asContext(changelog.isLinks(), commitsUrl)))
-                    .collect(Collectors.joining(lineSeparator)))
+                .append(lineSeparator)
+                .append(categories.get(categoryKey))
                 .append(lineSeparator)
                 .append(lineSeparator());
         }
 
-        if (!changelog.getHide().isUncategorized() && categories.containsKey(UNCATEGORIZED)) {
+        if (categories.containsKey(UNCATEGORIZED)) {
             if (changes.length() > 0) {
                 changes.append("---")
                     .append(lineSeparator);
             }
 
-            changes.append(categories.get(UNCATEGORIZED).stream()
-                    .map(c -> resolveTemplate(changelog.getFormat(), c.asContext(changelog.isLinks(), commitsUrl)))
-                    .collect(Collectors.joining(lineSeparator)))
+            changes.append(categories.get(UNCATEGORIZED))
                 .append(lineSeparator)
                 .append(lineSeparator());
         }
@@ -468,13 +514,11 @@ public class ChangelogGenerator {
         List<String> list = new ArrayList<>();
         String format = changelog.getContributors().getFormat();
 
+        if (isNotBlank(format) && (format.contains("AsLink") || format.contains("Username"))) {
+            resolveUsers(context, contributors);
+        }
+
         Map<String, List<Contributor>> grouped = contributors.stream()
-            .peek(contributor -> {
-                if (isNotBlank(format) && (format.contains("AsLink") || format.contains("Username"))) {
-                    context.getReleaser().findUser(contributor.email, contributor.name)
-                        .ifPresent(contributor::setUser);
-                }
-            })
             .collect(groupingBy(Contributor::getName));
 
         String contributorFormat = isNotBlank(format) ? format : "{{contributorName}}";
@@ -494,6 +538,17 @@ public class ChangelogGenerator {
         return String.join(separator, list);
     }
 
+    private void resolveUsers(JReleaserContext context, Set<Contributor> contributors) {
+        UserCache cache = UserCache.load(context);
+        try {
+            ConcurrentUtils.mapAll("contributors", USER_LOOKUP_PARALLELISM, contributors,
+                contributor -> cache.findUser(contributor.email, contributor.name),
+                (contributor, user) -> user.ifPresent(contributor::setUser));
+        } finally {
+            cache.save();
+        }
+    }
+
     private String applyReplacers(JReleaserContext context, Changelog changelog, String text) {
         Map<String, Object> props = context.getModel().props();
         context.getModel().getRelease().getGitService().fillProps(props, context.getModel());
@@ -518,35 +573,6 @@ public class ChangelogGenerator {
         return UNCATEGORIZED;
     }
 
-    private void applyLabels(Commit commit, Set<Changelog.Labeler> labelers) {
-        for (Changelog.Labeler labeler : labelers) {
-            if (isNotBlank(labeler.getTitle())) {
-                if (labeler.getTitle().startsWith(REGEX_PREFIX)) {
-                    String regex = labeler.getTitle().substring(REGEX_PREFIX.length());
-                    if (commit.title.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                } else {
-                    if (commit.title.contains(labeler.getTitle()) || commit.title.matches(toSafeRegexPattern(labeler.getTitle()))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                }
-            }
-            if (isNotBlank(labeler.getBody())) {
-                if (labeler.getBody().startsWith(REGEX_PREFIX)) {
-                    String regex = labeler.getBody().substring(REGEX_PREFIX.length());
-                    if (commit.body.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                } else {
-                    if (commit.body.contains(labeler.getBody()) || commit.body.matches(toSafeRegexPattern(labeler.getBody()))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                }
-            }
-        }
-    }
-
     private boolean checkLabels(Commit commit, Changelog changelog) {
         if (!changelog.getIncludeLabels().isEmpty()) {
             return CollectionUtils.intersects(changelog.getIncludeLabels(), commit.labels);
@@ -567,6 +593,211 @@ public class ChangelogGenerator {
         return new ChangelogGenerator().createChangelog(context);
     }
 
+    private static class CommitRange {
+        private final ObjectId since;
+        private final ObjectId until;
+
+        private CommitRange(ObjectId since, ObjectId until) {
+            this.since = since;
+            this.until = until;
+        }
+    }
+
+    /**
+     * Tags sorted by descending version. Each tag is parsed once up front and peeled at most once.
+     */
+    private static class TagIndex {
+        private final Git git;
+        private final List<Tag> tags = new ArrayList<>();
+        private final Map<String, Tag> byName = new LinkedHashMap<>();
+
+        private TagIndex(Git git) {
+            this.git = git;
+        }
+
+        private void add(Ref ref, Version version) {
+            tags.add(new Tag(git, ref, version));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void sort() {
+            // stable, ties keep the order in which tags were listed
+            tags.sort((t1, t2) -> t2.version.compareTo(t1.version));
+            byName.clear();
+            for (Tag tag : tags) {
+                byName.putIfAbsent(tag.name, tag);
+            }
+        }
+
+        private Optional<Tag> named(String name) {
+            return Optional.ofNullable(byName.get(name));
+        }
+
+        /**
+         * First tag, in version order, sharing the spec of {@code version}. Specs do not follow version
+         * order, hence this is a scan over the already parsed versions.
+         */
+        @SuppressWarnings("unchecked")
+        private Optional<Tag> matchingSpec(Version version, String excludedName) {
+            for (Tag tag : tags) {
+                if (!tag.name.equals(excludedName) && version.equalsSpec(tag.version)) {
+                    return Optional.of(tag);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Greatest tag whose name matches {@code pattern} and whose version is less than {@code version}.
+         */
+        @SuppressWarnings("unchecked")
+        private Optional<Tag> lessThan(Version version, Pattern pattern) {
+            // binary search for the first tag below version
+            int low = 0;
+            int high = tags.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ComparatorUtils.lessThan(tags.get(mid).version, version)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            for (int i = low; i < tags.size(); i++) {
+                Tag tag = tags.get(i);
+                if (pattern.matcher(tag.name).matches()) {
+                    return Optional.of(tag);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static class Tag {
+        private final Git git;
+        private final Ref ref;
+        private final String name;
+        private final Version version;
+        private ObjectId objectId;
+
+        private Tag(Git git, Ref ref, Version version) {
+            this.git = git;
+            this.ref = ref;
+            this.name = extractTagName(ref);
+            this.version = version;
+        }
+
+        private ObjectId objectId() throws IOException {
+            if (null == objectId) {
+                objectId = getObjectId(git, ref);
+            }
+            return objectId;
+        }
+    }
+
+    /**
+     * Labelers compiled once per changelog. Regex labelers keep a precompiled pattern while all plain
+     * labelers are matched with a single pass over the title and body of each commit.
+     */
+    private static class Labelers {
+        private final List<String> labels = new ArrayList<>();
+        private final List<Rule> titleRules = new ArrayList<>();
+        private final List<Rule> bodyRules = new ArrayList<>();
+        private final AhoCorasick titleLiterals;
+        private final AhoCorasick bodyLiterals;
+        private final boolean usesBody;
+
+        private Labelers(Set<Changelog.Labeler> labelers) {
+            List<String> titles = new ArrayList<>();
+            List<String> bodies = new ArrayList<>();
+            for (Changelog.Labeler labeler : labelers) {
+                labels.add(labeler.getLabel());
+                titleRules.add(Rule.of(labeler.getTitle(), titles));
+                bodyRules.add(Rule.of(labeler.getBody(), bodies));
+            }
+            titleLiterals = new AhoCorasick(titles);
+            bodyLiterals = new AhoCorasick(bodies);
+            usesBody = usesBody();
+        }
+
+        /**
+         * Identifies this configuration, labels computed with the same fingerprint can be reused.
+         */
+        private String fingerprint() {
+            StringBuilder b = new StringBuilder();
+            for (int i = 0; i < labels.size(); i++) {
+                b.append(labels.get(i)).append('\u0000')
+                    .append(titleRules.get(i)).append('\u0000')
+                    .append(bodyRules.get(i)).append('\n');
+            }
+
+            try {
+                return ChecksumUtils.checksum(Algorithm.SHA_1, b.toString().getBytes(UTF_8));
+            } catch (IOException e) {
+                // SHA-1 is always supported
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private boolean usesBody() {
+            for (Rule rule : bodyRules) {
+                if (rule != Rule.NONE) return true;
+            }
+            return false;
+        }
+
+        private void apply(Commit commit) {
+            if (labels.isEmpty()) return;
+
+            BitSet titleMatches = titleLiterals.matches(commit.title);
+            BitSet bodyMatches = usesBody ? bodyLiterals.matches(commit.body) : null;
+            for (int i = 0; i < labels.size(); i++) {
+                if (titleRules.get(i).matches(commit.title, titleMatches) ||
+                    (usesBody && bodyRules.get(i).matches(commit.body, bodyMatches))) {
+                    commit.labels.add(labels.get(i));
+                }
+            }
+        }
+    }
+
+    private static class Rule {
+        private static final Rule NONE = new Rule("", null, -1);
+
+        private final String spec;
+        private final Pattern pattern;
+        private final int literal;
+
+        private Rule(String spec, Pattern pattern, int literal) {
+            this.spec = spec;
+            this.pattern = pattern;
+            this.literal = literal;
+        }
+
+        private boolean matches(String text, BitSet literals) {
+            return (literal != -1 && literals.get(literal)) ||
+                (null != pattern && pattern.matcher(text).matches());
+        }
+
+        private static Rule of(String spec, List<String> literals) {
+            if (StringUtils.isBlank(spec)) return NONE;
+
+            if (spec.startsWith(REGEX_PREFIX)) {
+                return new Rule(spec, Pattern.compile(normalizeRegexPattern(spec.substring(REGEX_PREFIX.length()))), -1);
+            }
+
+            literals.add(spec);
+            // without anchors the safe pattern only matches when the text contains the literal
+            Pattern pattern = spec.startsWith("^") || spec.endsWith("$") ? Pattern.compile(toSafeRegexPattern(spec)) : null;
+            return new Rule(spec, pattern, literals.size() - 1);
+        }
+
+        @Override
+        public String toString() {
+            return spec;
+        }
+    }
+
     private static class Commit {
         private static final Pattern CO_AUTHORED_BY_PATTERN = Pattern.compile("^[Cc]o-authored-by:\\s+(.*)\\s+<(.*)>.*$");
         private final Set<String> labels = new LinkedHashSet<>();
@@ -577,6 +808,7 @@ public class ChangelogGenerator {
         private String body;
         private Author author;
         private int time;
+        private List<String> cachedLabels;
 
         Map<String, Object> asContext(boolean links, String commitsUrl) {
             Map<String, Object> context = new LinkedHashMap<>();
@@ -589,7 +821,7 @@ public class ChangelogGenerator {
             context.put("commitFullHash", fullHash);
             context.put("commitTitle", passThrough(title));
             context.put("commitAuthor", passThrough(author.name));
-            context.put("commitBody", passThrough(body));
+            context.put("commitBody", passThrough(null != body ? body : ""));
             return context;
         }
 
@@ -599,6 +831,46 @@ public class ChangelogGenerator {
             }
         }
 
+        CommitCache.Entry asCacheEntry() {
+            List<String> cs = new ArrayList<>();
+            for (Author commiter : commiters) {
+                cs.add(commiter.toString());
+            }
+            return new CommitCache.Entry(fullHash, title, body, author.toString(), cs, time, new ArrayList<>(labels));
+        }
+
+        /**
+         * Reads commit metadata from {@code cache} when available, otherwise parses the body of {@code rc}
+         * and disposes it right after. The body is only kept if {@code retainBody} is set.
+         */
+        static Commit of(RevWalk walk, RevCommit rc, CommitCache cache, boolean retainBody) throws IOException {
+            CommitCache.Entry entry = cache.get(rc.getId().name());
+            if (null == entry || (retainBody && null == entry.body)) {
+                walk.parseBody(rc);
+                Commit c = of(rc);
+                rc.disposeBody();
+                if (!retainBody) c.body = null;
+                return c;
+            }
+
+            Commit c = new Commit();
+            c.fullHash = entry.hash;
+            c.shortHash = rc.getId().abbreviate(7).name();
+            c.title = entry.title;
+            c.body = entry.body;
+            c.author = Author.parse(entry.author);
+            for (String commiter : entry.committers) {
+                Author a = Author.parse(commiter);
+                c.addContributor(a.name, a.email);
+            }
+            c.time = entry.time;
+            if (null != entry.labels) {
+                c.cachedLabels = entry.labels;
+                c.labels.addAll(entry.labels);
+            }
+            return c;
+        }
+
         static Commit of(RevCommit rc) {
             Commit c = new Commit();
             c.fullHash = rc.getId().name();
@@ -658,6 +930,11 @@ public class ChangelogGenerator {
         public String toString() {
             return name + " <" + email + ">";
         }
+
+        private static Author parse(String str) {
+            int pos = str.lastIndexOf(" <");
+            return new Author(str.substring(0, pos), str.substring(pos + 2, str.length() - 1));
+        }
     }
 
     private static class Contributor implements Comparable<Contributor> {
@@ -0,0 +1,406 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.JReleaserLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Persistent cache of parsed commit metadata keyed by commit hash. Commits never change once created,
+ * only the labels depend on configuration: they are kept as long as the labelers stay the same.
+ * <p>
+ * Entries live in a single append-only file, one line per commit. A newer line for the same commit
+ * supersedes older ones, which are dropped once they are as many as the live lines. Only the position of
+ * each line is kept in memory, indexed by hash prefix; entries are read from disk one at a time.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+final class CommitCache implements Closeable {
+    private static final String CACHE_FILE_NAME = "commits.cache";
+    private static final int HASH_LENGTH = 40;
+    private static final String LIST_SEPARATOR = "\n";
+    private static final String NULL = "\\N";
+
+    private final JReleaserLogger logger;
+    private final Path cacheFile;
+    private final String labelers;
+    private long[] keys = new long[0];
+    private long[] offsets = new long[0];
+    private RandomAccessFile reader;
+    private Writer writer;
+    private boolean failed;
+
+    private CommitCache(JReleaserLogger logger, Path cacheFile, String labelers) {
+        this.logger = logger;
+        this.cacheFile = cacheFile;
+        this.labelers = labelers;
+    }
+
+    /**
+     * @param labelers identifies the labeler configuration; cached labels computed with a different one are ignored.
+     */
+    static CommitCache load(JReleaserContext context, String labelers) {
+        return load(context.getLogger(), context.getOutputDirectory().resolve(CACHE_FILE_NAME), labelers);
+    }
+
+    static CommitCache load(JReleaserLogger logger, Path cacheFile, String labelers) {
+        CommitCache cache = new CommitCache(logger, cacheFile, labelers);
+        if (!Files.exists(cacheFile)) return cache;
+
+        try {
+            cache.index();
+        } catch (IOException e) {
+            cache.warnOnce(RB.$("changelog.cache.read.error"));
+            cache.keys = new long[0];
+            cache.offsets = new long[0];
+        }
+        return cache;
+    }
+
+    Entry get(String hash) {
+        int i = Arrays.binarySearch(keys, keyOf(hash));
+        if (i < 0) return null;
+
+        try {
+            if (null == reader) reader = new RandomAccessFile(cacheFile.toFile(), "r");
+            return Entry.parse(hash, readLine(reader, offsets[i]), labelers);
+        } catch (IOException e) {
+            warnOnce(RB.$("changelog.cache.read.error"));
+            return null;
+        }
+    }
+
+    /**
+     * Appends {@code entry}. It is visible to caches loaded afterwards, not to this one.
+     */
+    void put(Entry entry) {
+        if (failed) return;
+
+        try {
+            if (null == writer) {
+                Files.createDirectories(cacheFile.getParent());
+                writer = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(cacheFile, CREATE, WRITE, APPEND), StandardCharsets.UTF_8));
+            }
+            writer.write(entry.format(labelers));
+            writer.write('\n');
+        } catch (IOException e) {
+            warnOnce(RB.$("changelog.cache.write.error"));
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (null != reader) reader.close();
+            if (null != writer) writer.close();
+        } catch (IOException e) {
+            warnOnce(RB.$("changelog.cache.write.error"));
+        } finally {
+            reader = null;
+            writer = null;
+        }
+    }
+
+    /**
+     * Records the position of the latest line of every commit, dropping a trailing partial line
+     * left by an interrupted run and superseded lines once they are as many as the live ones.
+     */
+    private void index() throws IOException {
+        long[] lineKeys = new long[1024];
+        long[] lineOffsets = new long[1024];
+        int lines = 0;
+        long offset = 0;
+        long end = 0;
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(cacheFile))) {
+            byte[] hash = new byte[HASH_LENGTH];
+            int length = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\n') {
+                    Long key = length == HASH_LENGTH ? parseKey(new String(hash, StandardCharsets.US_ASCII)) : null;
+                    if (null != key) {
+                        if (lines == lineKeys.length) {
+                            lineKeys = Arrays.copyOf(lineKeys, lines * 2);
+                            lineOffsets = Arrays.copyOf(lineOffsets, lines * 2);
+                        }
+                        lineKeys[lines] = key;
+                        lineOffsets[lines++] = end;
+                    }
+                    end = offset + 1;
+                    length = 0;
+                } else if (length < HASH_LENGTH && offset - end == length) {
+                    hash[length++] = (byte) b;
+                }
+                offset++;
+            }
+        }
+
+        if (end < offset) {
+            try (FileChannel channel = FileChannel.open(cacheFile, WRITE)) {
+                channel.truncate(end);
+            }
+        }
+
+        // sort by key keeping file order among equal keys, the last line of a commit wins
+        Integer[] order = new Integer[lines];
+        for (int i = 0; i < lines; i++) order[i] = i;
+        long[] k = lineKeys;
+        Arrays.sort(order, (a, c) -> k[a] != k[c] ? Long.compare(k[a], k[c]) : Integer.compare(a, c));
+
+        int live = 0;
+        keys = new long[lines];
+        offsets = new long[lines];
+        for (int i = 0; i < lines; i++) {
+            int line = order[i];
+            if (live > 0 && keys[live - 1] == lineKeys[line]) {
+                offsets[live - 1] = lineOffsets[line];
+            } else {
+                keys[live] = lineKeys[line];
+                offsets[live++] = lineOffsets[line];
+            }
+        }
+        keys = Arrays.copyOf(keys, live);
+        offsets = Arrays.copyOf(offsets, live);
+
+        if (lines > live && lines - live >= live) compact();
+    }
+
+    private void compact() throws IOException {
+        long[] sorted = offsets.clone();
+        Arrays.sort(sorted);
+
+        Path tmp = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+        long[] moved = new long[sorted.length];
+        try (RandomAccessFile in = new RandomAccessFile(cacheFile.toFile(), "r");
+             OutputStream out = Files.newOutputStream(tmp)) {
+            long position = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                byte[] line = readLine(in, sorted[i]).getBytes(StandardCharsets.UTF_8);
+                out.write(line);
+                out.write('\n');
+                moved[i] = position;
+                position += line.length + 1;
+            }
+        }
+        try {
+            Files.move(tmp, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, cacheFile, REPLACE_EXISTING);
+        }
+
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = moved[Arrays.binarySearch(sorted, offsets[i])];
+        }
+    }
+
+    private static String readLine(RandomAccessFile file, long offset) throws IOException {
+        file.seek(offset);
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = file.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    line.write(buffer, 0, i);
+                    return new String(line.toByteArray(), StandardCharsets.UTF_8);
+                }
+            }
+            line.write(buffer, 0, read);
+        }
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The first 64 bits of a hash identify it well enough; entries are checked against the full hash when read.
+     */
+    private static long keyOf(String hash) {
+        return Long.parseUnsignedLong(hash.substring(0, 16), 16);
+    }
+
+    private static Long parseKey(String hash) {
+        try {
+            return keyOf(hash);
+        } catch (NumberFormatException e) {
+            // malformed line, ignored
+            return null;
+        }
+    }
+
+    private void warnOnce(String message) {
+        // a broken cache would otherwise report every single commit
+        if (failed) return;
+        failed = true;
+        logger.warn(message, cacheFile);
+    }
+
+    static final class Entry {
+        final String hash;
+        final String title;
+        /**
+         * {@code null} if the body was not needed when the commit was parsed.
+         */
+        final String body;
+        final String author;
+        final List<String> committers;
+        final int time;
+        /**
+         * {@code null} if labels have not been computed with the current labelers.
+         */
+        final List<String> labels;
+
+        /**
+         * @param author     formatted as {@code name <email>}
+         * @param committers formatted as {@code name <email>}
+         */
+        Entry(String hash, String title, String body, String author, List<String> committers, int time, List<String> labels) {
+            this.hash = hash;
+            this.title = title;
+            this.body = body;
+            this.author = author;
+            this.committers = committers;
+            this.time = time;
+            this.labels = labels;
+        }
+
+        /**
+         * One line of tab separated, escaped fields: hash, labelers, title, body, author, committers, time, labels.
+         */
+        private String format(String labelers) {
+            return String.join("\t",
+                hash,
+                escape(labelers),
+                escape(title),
+                escape(body),
+                escape(author),
+                escape(String.join(LIST_SEPARATOR, committers)),
+                String.valueOf(time),
+                null != labels ? escape(String.join(LIST_SEPARATOR, labels)) : NULL);
+        }
+
+        private static Entry parse(String hash, String line, String labelers) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length != 8 || !hash.equals(fields[0])) return null;
+
+            String title = unescape(fields[2]);
+            String author = unescape(fields[4]);
+            String committers = unescape(fields[5]);
+            if (null == title || null == author || null == committers) return null;
+
+            List<String> labels = null;
+            if (labelers.equals(unescape(fields[1])) && !NULL.equals(fields[7])) {
+                labels = split(unescape(fields[7]));
+            }
+
+            try {
+                return new Entry(hash, title, unescape(fields[3]), author, split(committers),
+                    Integer.parseInt(fields[6]), labels);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static List<String> split(String str) {
+            if (str.isEmpty()) return Collections.emptyList();
+            return new ArrayList<>(Arrays.asList(str.split(LIST_SEPARATOR)));
+        }
+
+        private static String escape(String str) {
+            if (null == str) return NULL;
+
+            StringBuilder b = new StringBuilder(str.length());
+            for (int i = 0; i < str.length(); i++) {
+                char c = str.charAt(i);
+                switch (c) {
+                    case '\\':
+                        b.append("\\\\");
+                        break;
+                    case '\t':
+                        b.append("\\t");
+                        break;
+                    case '\n':
+                        b.append("\\n");
+                        break;
+                    case '\r':
+                        b.append("\\r");
+                        break;
+                    default:
+                        b.append(c);
+                }
+            }
+            return b.toString();
+        }
+
+        private static String unescape(String str) {
+            if (NULL.equals(str)) return null;
+
+            StringBuilder b = new StringBuilder(str.length());
+            for (int i = 0; i < str.length(); i++) {
+                char c = str.charAt(i);
+                if (c != '\\' || i + 1 == str.length()) {
+                    b.append(c);
+                    continue;
+                }
+
+                char next = str.charAt(++i);
+                switch (next) {
+                    case 't':
+                        b.append('\t');
+                        break;
+                    case 'n':
+                        b.append('\n');
+                        break;
+                    case 'r':
+                        b.append('\r');
+                        break;
+                    default:
+                        b.append(next);
+                }
+            }
+            return b.toString();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.GitService;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.releaser.spi.ReleaseException;
+import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.util.Env;
+import org.jreleaser.util.JReleaserLogger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Persistent cache of email to user lookups, shared by all projects released from the same machine.
+ * Found users are kept for a week, misses for a day so that newly linked accounts show up eventually.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+final class UserCache {
+    private static final String CACHE_FILE_NAME = "users.cache";
+    static final long FOUND_TTL = TimeUnit.DAYS.toMillis(7);
+    static final long MISSING_TTL = TimeUnit.DAYS.toMillis(1);
+
+    private final JReleaserLogger logger;
+    private final Path cacheFile;
+    private final Path lockFile;
+    private final String prefix;
+    private final Lookup lookup;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private UserCache(JReleaserLogger logger, Path cacheFile, String prefix, Lookup lookup, LongSupplier clock) {
+        this.logger = logger;
+        this.cacheFile = cacheFile;
+        this.lockFile = cacheFile.resolveSibling(CACHE_FILE_NAME + ".lock");
+        this.prefix = prefix;
+        this.lookup = lookup;
+        this.clock = clock;
+    }
+
+    static UserCache load(JReleaserContext context) {
+        // users are only meaningful for the service they were found in
+        GitService gitService = context.getModel().getRelease().getGitService();
+        return load(context.getLogger(),
+            Env.resolveJReleaserCacheDir().resolve(CACHE_FILE_NAME),
+            gitService.getServiceName() + "@" + gitService.getHost() + "|",
+            (email, name) -> context.getReleaser().lookupUser(email, name),
+            System::currentTimeMillis);
+    }
+
+    static UserCache load(JReleaserLogger logger, Path cacheFile, String prefix, Lookup lookup, LongSupplier clock) {
+        UserCache cache = new UserCache(logger, cacheFile, prefix, lookup, clock);
+        cache.entries.putAll(cache.read(clock.getAsLong()));
+        return cache;
+    }
+
+    /**
+     * Returns the cached user for {@code email}, asking the releaser only on a miss or when the entry expired.
+     * Only answers from the releaser are cached, failed lookups are not.
+     */
+    Optional<User> findUser(String email, String name) {
+        String key = prefix + email;
+        long now = clock.getAsLong();
+
+        Entry entry = entries.get(key);
+        if (null != entry && !entry.isExpired(now)) {
+            return Optional.ofNullable(entry.toUser(email));
+        }
+
+        Optional<User> user;
+        try {
+            user = lookup.lookup(email, name);
+        } catch (ReleaseException e) {
+            // rate limits, timeouts and server errors say nothing about the user, look it up again next time
+            logger.trace(e);
+            logger.debug(RB.$("git.releaser.user.not.found"), email);
+            return Optional.empty();
+        }
+
+        entries.put(key, new Entry(now, user.map(User::getUsername).orElse(null), user.map(User::getUrl).orElse(null)));
+        dirty = true;
+        return user;
+    }
+
+    /**
+     * Writes the cache, merging it with entries stored by other releases since it was loaded.
+     * The newest entry wins when both know the same email.
+     */
+    void save() {
+        if (!dirty) return;
+
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            // file locks are held by the whole JVM, threads of the same process must take turns
+            synchronized (UserCache.class) {
+                try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE);
+                     FileLock ignored = channel.lock()) {
+                    write(merge(clock.getAsLong()));
+                }
+            }
+            dirty = false;
+        } catch (IOException e) {
+            logger.warn(RB.$("changelog.user.cache.write.error"), cacheFile);
+        }
+    }
+
+    private Map<String, Entry> merge(long now) {
+        Map<String, Entry> merged = read(now);
+        entries.forEach((key, entry) -> {
+            if (!entry.isExpired(now)) {
+                merged.merge(key, entry, (stored, ours) -> stored.timestamp > ours.timestamp ? stored : ours);
+            }
+        });
+        return merged;
+    }
+
+    private Map<String, Entry> read(long now) {
+        Map<String, Entry> result = new LinkedHashMap<>();
+        if (!Files.exists(cacheFile)) return result;
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            props.load(in);
+        } catch (IOException e) {
+            logger.warn(RB.$("changelog.user.cache.read.error"), cacheFile);
+            return result;
+        }
+
+        for (String key : props.stringPropertyNames()) {
+            Entry entry = Entry.parse(props.getProperty(key));
+            if (null != entry && !entry.isExpired(now)) result.put(key, entry);
+        }
+        return result;
+    }
+
+    private void write(Map<String, Entry> merged) throws IOException {
+        Properties props = new Properties();
+        merged.forEach((key, entry) -> props.setProperty(key, entry.toString()));
+
+        Path tmp = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            props.store(out, null);
+        }
+        try {
+            Files.move(tmp, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, cacheFile, REPLACE_EXISTING);
+        }
+    }
+
+    @FunctionalInterface
+    interface Lookup {
+        Optional<User> lookup(String email, String name) throws ReleaseException;
+    }
+
+    private static class Entry {
+        private final long timestamp;
+        private final String username;
+        private final String url;
+
+        private Entry(long timestamp, String username, String url) {
+            this.timestamp = timestamp;
+            this.username = username;
+            this.url = url;
+        }
+
+        private boolean isExpired(long now) {
+            return now - timestamp > (null != username ? FOUND_TTL : MISSING_TTL);
+        }
+
+        private User toUser(String email) {
+            return null != username ? new User(username, email, url) : null;
+        }
+
+        private static Entry parse(String str) {
+            String[] parts = str.split("\\|", 3);
+            try {
+                if (parts.length == 3) {
+                    return new Entry(Long.parseLong(parts[0]), parts[1], parts[2]);
+                } else if (parts.length == 1) {
+                    return new Entry(Long.parseLong(parts[0]), null, null);
+                }
+            } catch (NumberFormatException e) {
+                // malformed, looked up again
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return null != username ? timestamp + "|" + username + "|" + url : String.valueOf(timestamp);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.jreleaser.model.Changelog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class ChangelogGeneratorTest {
+    @TempDir
+    Path repository;
+
+    @Test
+    public void testCommitsSortedDescendingByCommitTime() throws Exception {
+        // given:
+        try (Git git = history();
+             RevWalk walk = walk(git)) {
+            // when:
+            List<String> titles = titles(ChangelogGenerator.sortCommits(walk, Changelog.Sort.DESC));
+
+            // then:
+            assertThat(titles, contains("c2", "c4", "c3", "c1"));
+        }
+    }
+
+    @Test
+    public void testCommitsSortedAscendingByCommitTime() throws Exception {
+        // given:
+        try (Git git = history();
+             RevWalk walk = walk(git)) {
+            // when:
+            List<String> titles = titles(ChangelogGenerator.sortCommits(walk, Changelog.Sort.ASC));
+
+            // then:
+            // c4 and c3 share a commit time and keep their walk order
+            assertThat(titles, contains("c1", "c4", "c3", "c2"));
+        }
+    }
+
+    private Git history() throws Exception {
+        Git git = Git.init().setDirectory(repository.toFile()).call();
+        commit(git, "c1", 100);
+        commit(git, "c2", 300);
+        commit(git, "c3", 200);
+        commit(git, "c4", 200);
+        return git;
+    }
+
+    private void commit(Git git, String message, long seconds) throws Exception {
+        PersonIdent ident = new PersonIdent("Duke", "duke@example.com", seconds * 1000L, 0);
+        git.commit()
+            .setMessage(message)
+            .setAuthor(ident)
+            .setCommitter(ident)
+            .setAllowEmpty(true)
+            .setSign(false)
+            .call();
+    }
+
+    private RevWalk walk(Git git) throws Exception {
+        RevWalk walk = new RevWalk(git.getRepository());
+        walk.markStart(walk.parseCommit(git.getRepository().resolve("HEAD")));
+        return walk;
+    }
+
+    private List<String> titles(List<RevCommit> commits) {
+        return commits.stream()
+            .map(RevCommit::getShortMessage)
+            .collect(Collectors.toList());
+    }
+}
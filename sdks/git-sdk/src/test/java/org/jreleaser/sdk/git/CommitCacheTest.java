@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class CommitCacheTest {
+    private static final String HASH = "0123456789abcdef0123456789abcdef01234567";
+    private static final String OTHER_HASH = "fedcba9876543210fedcba9876543210fedcba98";
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    public void testCachedEntryIsReadBack() {
+        // given:
+        try (CommitCache cache = load("labelers-1")) {
+            cache.put(entry(HASH, "feat: tabs\\tand\\nescapes\tincluded", "body\nwith lines", Arrays.asList("feature")));
+            cache.put(entry(OTHER_HASH, "fix: other", null, Collections.emptyList()));
+        }
+
+        // when:
+        CommitCache.Entry entry;
+        CommitCache.Entry other;
+        CommitCache.Entry missing;
+        try (CommitCache cache = load("labelers-1")) {
+            entry = cache.get(HASH);
+            other = cache.get(OTHER_HASH);
+            missing = cache.get("1111111111111111111111111111111111111111");
+        }
+
+        // then:
+        assertThat(entry.title, equalTo("feat: tabs\\tand\\nescapes\tincluded"));
+        assertThat(entry.body, equalTo("body\nwith lines"));
+        assertThat(entry.author, equalTo("Duke <duke@example.com>"));
+        assertThat(entry.committers, contains("Duke <duke@example.com>", "Tux <tux@example.com>"));
+        assertThat(entry.time, equalTo(1234));
+        assertThat(entry.labels, contains("feature"));
+        assertThat(other.body, nullValue());
+        assertThat(other.labels, hasSize(0));
+        assertThat(missing, nullValue());
+    }
+
+    @Test
+    public void testLabelsAreDroppedWhenLabelersChange() {
+        // given:
+        try (CommitCache cache = load("labelers-1")) {
+            cache.put(entry(HASH, "feat: labels", "body", Arrays.asList("feature")));
+        }
+
+        // when:
+        CommitCache.Entry entry;
+        try (CommitCache cache = load("labelers-2")) {
+            entry = cache.get(HASH);
+        }
+
+        // then:
+        assertThat(entry.title, equalTo("feat: labels"));
+        assertThat(entry.body, equalTo("body"));
+        assertThat(entry.labels, nullValue());
+    }
+
+    @Test
+    public void testBodyAddedLaterSupersedesEntry() throws IOException {
+        // given:
+        try (CommitCache cache = load("labelers-1")) {
+            cache.put(entry(HASH, "feat: body", null, Arrays.asList("feature")));
+        }
+        try (CommitCache cache = load("labelers-1")) {
+            assertThat(cache.get(HASH).body, nullValue());
+            cache.put(entry(HASH, "feat: body", "needed now", Arrays.asList("feature")));
+        }
+
+        // when:
+        CommitCache.Entry entry;
+        try (CommitCache cache = load("labelers-1")) {
+            entry = cache.get(HASH);
+        }
+
+        // then:
+        assertThat(entry.body, equalTo("needed now"));
+        // the superseded line was dropped on load
+        assertThat(Files.readAllLines(cacheFile()), hasSize(1));
+    }
+
+    @Test
+    public void testPartialLineIsDiscarded() throws IOException {
+        // given:
+        try (CommitCache cache = load("labelers-1")) {
+            cache.put(entry(HASH, "feat: complete", null, Arrays.asList("feature")));
+        }
+        Files.write(cacheFile(), (OTHER_HASH + "\tinterrupted").getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        // when:
+        try (CommitCache cache = load("labelers-1")) {
+            assertThat(cache.get(OTHER_HASH), nullValue());
+            cache.put(entry(OTHER_HASH, "fix: rewritten", null, Collections.emptyList()));
+        }
+
+        // then:
+        try (CommitCache cache = load("labelers-1")) {
+            assertThat(cache.get(HASH).title, equalTo("feat: complete"));
+            assertThat(cache.get(OTHER_HASH).title, equalTo("fix: rewritten"));
+        }
+    }
+
+    private CommitCache load(String labelers) {
+        return CommitCache.load(new SimpleJReleaserLoggerAdapter(), cacheFile(), labelers);
+    }
+
+    private Path cacheFile() {
+        return outputDir.resolve("commits.cache");
+    }
+
+    private static CommitCache.Entry entry(String hash, String title, String body, List<String> labels) {
+        return new CommitCache.Entry(hash, title, body, "Duke <duke@example.com>",
+            Arrays.asList("Duke <duke@example.com>", "Tux <tux@example.com>"), 1234, labels);
+    }
+}
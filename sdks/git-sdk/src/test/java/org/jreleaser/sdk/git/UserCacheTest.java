@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.model.releaser.spi.ReleaseException;
+import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class UserCacheTest {
+    private static final String PREFIX = "github@github.com|";
+
+    @TempDir
+    Path cacheDir;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final List<String> lookups = new ArrayList<>();
+
+    @Test
+    public void testFoundUserExpiresAfterAWeek() {
+        // given:
+        UserCache.Lookup lookup = recording((email, name) -> Optional.of(new User("duke", email, "https://github.com/duke")));
+        UserCache cache = load(lookup);
+        cache.findUser("duke@example.com", "Duke");
+        cache.save();
+
+        // when:
+        clock.addAndGet(UserCache.FOUND_TTL);
+        Optional<User> cached = load(lookup).findUser("duke@example.com", "Duke");
+        clock.addAndGet(1);
+        load(lookup).findUser("duke@example.com", "Duke");
+
+        // then:
+        assertThat(cached.map(User::getUsername), equalTo(Optional.of("duke")));
+        assertThat(lookups, contains("duke@example.com", "duke@example.com"));
+    }
+
+    @Test
+    public void testMissingUserExpiresAfterADay() {
+        // given:
+        UserCache.Lookup lookup = recording((email, name) -> Optional.empty());
+        UserCache cache = load(lookup);
+        cache.findUser("ghost@example.com", "Ghost");
+        cache.save();
+
+        // when:
+        clock.addAndGet(UserCache.MISSING_TTL);
+        Optional<User> cached = load(lookup).findUser("ghost@example.com", "Ghost");
+        clock.addAndGet(1);
+        load(lookup).findUser("ghost@example.com", "Ghost");
+
+        // then:
+        assertThat(cached, equalTo(Optional.empty()));
+        assertThat(lookups, contains("ghost@example.com", "ghost@example.com"));
+    }
+
+    @Test
+    public void testFailedLookupIsNotCached() {
+        // given:
+        UserCache.Lookup lookup = recording((email, name) -> {
+            throw new ReleaseException("rate limited");
+        });
+        UserCache cache = load(lookup);
+
+        // when:
+        Optional<User> user = cache.findUser("duke@example.com", "Duke");
+        cache.findUser("duke@example.com", "Duke");
+        cache.save();
+
+        // then:
+        assertThat(user, equalTo(Optional.empty()));
+        assertThat(lookups, contains("duke@example.com", "duke@example.com"));
+        assertThat(Files.exists(cacheDir.resolve("users.cache")), equalTo(false));
+    }
+
+    @Test
+    public void testConcurrentSavesAreMerged() {
+        // given:
+        UserCache.Lookup lookup = recording((email, name) -> Optional.of(new User(name, email, "https://github.com/" + name)));
+        UserCache first = load(lookup);
+        UserCache second = load(lookup);
+        first.findUser("duke@example.com", "duke");
+        second.findUser("tux@example.com", "tux");
+
+        // when:
+        first.save();
+        second.save();
+        lookups.clear();
+        UserCache third = load(lookup);
+        third.findUser("duke@example.com", "duke");
+        third.findUser("tux@example.com", "tux");
+
+        // then:
+        assertThat(lookups, empty());
+    }
+
+    private UserCache load(UserCache.Lookup lookup) {
+        return UserCache.load(new SimpleJReleaserLoggerAdapter(), cacheDir.resolve("users.cache"), PREFIX, lookup, clock::get);
+    }
+
+    private UserCache.Lookup recording(UserCache.Lookup lookup) {
+        return (email, name) -> {
+            lookups.add(email);
+            return lookup.lookup(email, name);
+        };
+    }
+}
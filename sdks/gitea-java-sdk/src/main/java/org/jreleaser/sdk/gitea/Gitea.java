@@ -22,17 +22,15 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import feign.form.FormData;
 import feign.form.FormEncoder;
-import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.tika.Tika;
-import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.releaser.spi.Asset;
 import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.model.util.ArtifactMetadataRegistry;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.gitea.api.GiteaAPI;
 import org.jreleaser.sdk.gitea.api.GtMilestone;
@@ -42,11 +40,13 @@ import org.jreleaser.sdk.gitea.api.GtRepository;
 import org.jreleaser.sdk.gitea.api.GtSearchUser;
 import org.jreleaser.sdk.gitea.api.GtUser;
 import org.jreleaser.util.CollectionUtils;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.JReleaserLogger;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -60,17 +60,23 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
  */
 class Gitea {
     private static final String API_V1 = "/api/v1";
-    private final Tika tika = new Tika();
 
     private final JReleaserLogger logger;
+    private final HttpClientPool pool;
     private final GiteaAPI api;
+    private final String endpoint;
+    private final String token;
+    private final int connectTimeout;
+    private final int readTimeout;
 
     Gitea(JReleaserLogger logger,
+          HttpClientPool pool,
           String endpoint,
           String token,
           int connectTimeout,
           int readTimeout) throws IOException {
         requireNonNull(logger, "'logger' must not be null");
+        requireNonNull(pool, "'pool' must not be null");
         requireNonBlank(token, "'token' must not be blank");
         requireNonBlank(endpoint, "'endpoint' must not be blank");
 
@@ -88,8 +94,12 @@ class Gitea {
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.logger = logger;
-        this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
-            .client(new ApacheHttpClient())
+        this.pool = pool;
+        this.endpoint = endpoint;
+        this.token = token;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.api = ClientUtils.builder(logger, pool, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("Authorization", String.format("token %s", token)))
@@ -210,20 +220,25 @@ class Gitea {
         api.updateRelease(release, owner, repo, id);
     }
 
-    void uploadAssets(String owner, String repo, GtRelease release, List<Asset> assets) throws IOException {
+    void uploadAssets(String owner, String repo, GtRelease release, List<Asset> assets, ArtifactMetadataRegistry metadata, int parallelism) throws IOException {
+        List<Asset> uploadable = new ArrayList<>();
         for (Asset asset : assets) {
-            if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
+            if (!metadata.of(asset.getPath()).isNotEmpty()) {
                 // do not upload empty or non existent files
                 continue;
             }
+            uploadable.add(asset);
+        }
 
-            logger.info(" " + RB.$("git.upload.asset"), asset.getFilename());
-            try {
-                api.uploadAsset(owner, repo, release.getId(), toFormData(asset.getPath()));
-            } catch (RestAPIException e) {
-                logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
-                throw e;
-            }
+        try {
+            ConcurrentUtils.mapAll("gitea-upload", parallelism, uploadable,
+                asset -> {
+                    uploadAsset(owner, repo, release, asset);
+                    return asset;
+                },
+                (asset, uploaded) -> logger.info(" " + RB.$("git.upload.asset"), asset.getFilename()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
@@ -239,11 +254,22 @@ class Gitea {
         return Optional.empty();
     }
 
-    private FormData toFormData(Path asset) throws IOException {
-        return FormData.builder()
-            .fileName(asset.getFileName().toString())
-            .contentType(MediaType.parse(tika.detect(asset)).toString())
-            .data(Files.readAllBytes(asset))
-            .build();
+    private void uploadAsset(String owner, String repo, GtRelease release, Asset asset) {
+        try {
+            ClientUtils.postMultipart(logger,
+                pool,
+                endpoint + "/repos/" + owner + "/" + repo + "/releases/" + release.getId() + "/assets",
+                connectTimeout,
+                readTimeout,
+                Collections.singletonMap("Authorization", String.format("token %s", token)),
+                "attachment",
+                asset.getPath());
+        } catch (IOException e) {
+            logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
+            throw new UncheckedIOException(e);
+        } catch (RestAPIException e) {
+            logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
+            throw e;
+        }
     }
 }
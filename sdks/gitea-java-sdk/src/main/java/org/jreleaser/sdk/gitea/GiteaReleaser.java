@@ -25,6 +25,7 @@ import org.jreleaser.model.releaser.spi.Asset;
 import org.jreleaser.model.releaser.spi.ReleaseException;
 import org.jreleaser.model.releaser.spi.Repository;
 import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.GitSdk;
 import org.jreleaser.sdk.git.ReleaseUtils;
@@ -33,7 +34,6 @@ import org.jreleaser.sdk.gitea.api.GtRelease;
 import org.jreleaser.sdk.gitea.api.GtRepository;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +44,8 @@ import static org.jreleaser.util.StringUtils.capitalize;
  * @since 0.1.0
  */
 public class GiteaReleaser extends AbstractReleaser {
+    private Gitea userApi;
+
     public GiteaReleaser(JReleaserContext context, List<Asset> assets) {
         super(context, assets);
     }
@@ -70,6 +72,7 @@ public class GiteaReleaser extends AbstractReleaser {
             String changelog = context.getChangelog();
 
             Gitea api = new Gitea(context.getLogger(),
+                HttpClientPool.of(context),
                 gitea.getApiEndpoint(),
                 gitea.getResolvedToken(),
                 gitea.getConnectTimeout(),
@@ -104,7 +107,7 @@ public class GiteaReleaser extends AbstractReleaser {
                         api.updateRelease(gitea.getOwner(), gitea.getName(), release.getId(), updater);
 
                         if (gitea.getUpdateSections().contains(UpdateSection.ASSETS)) {
-                            api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets);
+                            api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets, context.getArtifactMetadata(), gitea.getUploadParallelism());
                         }
                     }
                 } else {
@@ -146,6 +149,7 @@ public class GiteaReleaser extends AbstractReleaser {
         context.getLogger().debug(RB.$("git.repository.lookup"), owner, repo);
 
         Gitea api = new Gitea(context.getLogger(),
+            HttpClientPool.of(context),
             gitea.getApiEndpoint(),
             password,
             gitea.getConnectTimeout(),
@@ -165,6 +169,18 @@ public class GiteaReleaser extends AbstractReleaser {
 
     @Override
     public Optional<User> findUser(String email, String name) {
+        try {
+            return lookupUser(email, name);
+        } catch (ReleaseException e) {
+            context.getLogger().trace(e);
+            context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<User> lookupUser(String email, String name) throws ReleaseException {
         org.jreleaser.model.Gitea gitea = resolveGiteaFromModel();
 
         try {
@@ -179,18 +195,23 @@ public class GiteaReleaser extends AbstractReleaser {
                 host += "/";
             }
 
-            return new Gitea(context.getLogger(),
+            return userApi().findUser(email, name, host);
+        } catch (RestAPIException | IOException e) {
+            throw new ReleaseException(e);
+        }
+    }
+
+    private synchronized Gitea userApi() throws IOException {
+        if (null == userApi) {
+            org.jreleaser.model.Gitea gitea = resolveGiteaFromModel();
+            userApi = new Gitea(context.getLogger(),
+                HttpClientPool.of(context),
                 gitea.getApiEndpoint(),
                 gitea.getResolvedToken(),
                 gitea.getConnectTimeout(),
-                gitea.getReadTimeout())
-                .findUser(email, name, host);
-        } catch (RestAPIException | IOException e) {
-            context.getLogger().trace(e);
-            context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
+                gitea.getReadTimeout());
         }
-
-        return Optional.empty();
+        return userApi;
     }
 
     private void createRelease(Gitea api, String tagName, String changelog, boolean deleteTags) throws IOException {
@@ -198,7 +219,7 @@ public class GiteaReleaser extends AbstractReleaser {
 
         if (context.isDryrun()) {
             for (Asset asset : assets) {
-                if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
+                if (!context.getArtifactMetadata().of(asset.getPath()).isNotEmpty()) {
                     // do not upload empty or non existent files
                     continue;
                 }
@@ -226,7 +247,7 @@ public class GiteaReleaser extends AbstractReleaser {
         release.setBody(changelog);
 
         release = api.createRelease(gitea.getOwner(), gitea.getName(), release);
-        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets);
+        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets, context.getArtifactMetadata(), gitea.getUploadParallelism());
 
         if (gitea.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GtMilestone> milestone = api.findMilestoneByName(
@@ -21,7 +21,6 @@ import feign.Headers;
 import feign.Param;
 import feign.QueryMap;
 import feign.RequestLine;
-import feign.form.FormData;
 
 import java.util.Map;
 
@@ -61,10 +60,6 @@ public interface GiteaAPI {
     @Headers("Content-Type: application/json")
     void updateRelease(GtRelease release, @Param("owner") String owner, @Param("repo") String repo, @Param("id") Integer id);
 
-    @RequestLine("POST /repos/{owner}/{repo}/releases/{id}/assets")
-    @Headers("Content-Type: multipart/form-data")
-    GtAttachment uploadAsset(@Param("owner") String owner, @Param("repo") String repo, @Param("id") Integer id, @Param("attachment") FormData file);
-
     @RequestLine("GET /repos/{owner}/{repo}/milestones/{milestoneName}")
     GtMilestone findMilestoneByTitle(@Param("owner") String owner, @Param("repo") String repo, @Param("milestoneName") String milestoneName);
 
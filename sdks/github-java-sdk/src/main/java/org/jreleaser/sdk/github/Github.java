@@ -22,6 +22,11 @@ import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.releaser.spi.Asset;
+import org.jreleaser.model.util.ArtifactMetadataRegistry;
+import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.github.api.GhAsset;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.JReleaserLogger;
 import org.kohsuke.github.GHAsset;
 import org.kohsuke.github.GHDiscussion;
@@ -41,11 +46,18 @@ import org.kohsuke.github.PagedIterable;
 import org.kohsuke.github.extras.ImpatientHttpConnector;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
 import static org.jreleaser.sdk.git.GitSdk.REFS_TAGS;
@@ -139,24 +151,162 @@ class Github {
             .delete();
     }
 
+    /**
+     * Points the remote tag at {@code sha} with a single ref update, creating it if it does not exist.
+     * Releases on that tag stay attached to it all along.
+     */
+    void moveTag(String repo, String tagName, String sha) throws IOException {
+        logger.debug(RB.$("git.move.tag.in.repository"), tagName, repo, sha);
+        GHRepository repository = github.getRepository(repo);
+        try {
+            repository.getRef(REFS_TAGS + tagName)
+                .updateTo(sha, true);
+        } catch (GHFileNotFoundException e) {
+            repository.createRef(REFS_TAGS + tagName, sha);
+        }
+    }
+
     GHReleaseBuilder createRelease(String repo, String tagName) throws IOException {
         logger.debug(RB.$("git.create.release.repository"), repo, tagName);
         return github.getRepository(repo)
             .createRelease(tagName);
     }
 
-    void uploadAssets(GHRelease release, List<Asset> assets) throws IOException {
+    /**
+     * Uploads assets using up to {@code parallelism} concurrent transfers. Progress is reported in asset order.
+     * Every asset is attempted; failures are collected and rethrown together once all uploads have finished.
+     */
+    void uploadAssets(GHRelease release, List<Asset> assets, ArtifactMetadataRegistry metadata, int parallelism) throws IOException {
+        transferAssets(uploadableAssets(assets, metadata), parallelism,
+            asset -> uploadAsset(release, asset, metadata, asset.getPath().getFileName().toString()));
+    }
+
+    /**
+     * Brings the assets of an existing release in line with {@code assets}. Assets with the same name, size
+     * and SHA-256 digest (as reported by the server) are left untouched, changed assets are replaced and
+     * assets that are no longer part of the release are deleted. Assets for which the server does not
+     * report a digest, such as on older GitHub Enterprise versions, are deleted and uploaded again.
+     */
+    void syncAssets(GHRelease release, XGithub xapi, String owner, String repo, List<Asset> assets,
+                    ArtifactMetadataRegistry metadata, int parallelism) throws IOException {
+        Map<String, GhAsset> existing;
+        try {
+            existing = xapi.listAssets(owner, repo, release.getId());
+        } catch (RestAPIException e) {
+            throw new IOException(e);
+        }
+
+        List<Asset> uploadable = uploadableAssets(assets, metadata);
+        Set<String> names = new LinkedHashSet<>();
+        for (Asset asset : uploadable) {
+            names.add(asset.getPath().getFileName().toString());
+        }
+
+        for (GhAsset ghasset : existing.values()) {
+            if (!names.contains(ghasset.getName())) {
+                logger.info(" " + RB.$("git.delete.asset"), ghasset.getName());
+                try {
+                    xapi.deleteAsset(owner, repo, ghasset.getId());
+                } catch (RestAPIException e) {
+                    throw new IOException(e);
+                }
+            }
+        }
+
+        transferAssets(uploadable, parallelism, asset -> syncAsset(release, xapi, owner, repo, asset, metadata,
+            existing.get(asset.getPath().getFileName().toString())));
+    }
+
+    private List<Asset> uploadableAssets(List<Asset> assets, ArtifactMetadataRegistry metadata) {
+        List<Asset> uploadable = new ArrayList<>();
         for (Asset asset : assets) {
-            if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
+            if (!metadata.of(asset.getPath()).isNotEmpty()) {
                 // do not upload empty or non existent files
                 continue;
             }
+            uploadable.add(asset);
+        }
+        return uploadable;
+    }
+
+    private void transferAssets(List<Asset> assets, int parallelism, Function<Asset, AssetUpload> transfer) throws IOException {
+        List<IOException> failures = new ArrayList<>();
+        ConcurrentUtils.mapAll("github-upload", parallelism, assets, transfer,
+            (asset, upload) -> {
+                if (upload.unchanged) {
+                    logger.info(" " + RB.$("git.upload.asset.unchanged"), asset.getFilename());
+                    return;
+                }
+
+                logger.info(" " + RB.$("git.upload.asset"), asset.getFilename());
+                if (null != upload.failure) {
+                    logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
+                    logger.trace(upload.failure);
+                    failures.add(upload.failure);
+                } else if (!"uploaded".equalsIgnoreCase(upload.state)) {
+                    logger.warn(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
+                }
+            });
+
+        if (!failures.isEmpty()) {
+            IOException e = new IOException(RB.$("ERROR_git_upload_assets", failures.size(), assets.size()));
+            failures.forEach(e::addSuppressed);
+            throw e;
+        }
+    }
+
+    private AssetUpload syncAsset(GHRelease release, XGithub xapi, String owner, String repo, Asset asset,
+                                  ArtifactMetadataRegistry metadata, GhAsset current) {
+        String name = asset.getPath().getFileName().toString();
+        if (null == current) {
+            return uploadAsset(release, asset, metadata, name);
+        }
 
-            logger.info(" " + RB.$("git.upload.asset"), asset.getFilename());
-            GHAsset ghasset = release.uploadAsset(asset.getPath().toFile(), MediaType.parse(tika.detect(asset.getPath())).toString());
-            if (!"uploaded".equalsIgnoreCase(ghasset.getState())) {
-                logger.warn(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
+        if (isBlank(current.getDigest())) {
+            // nothing to compare with, a plain replacement costs fewer requests than the swap below
+            try {
+                xapi.deleteAsset(owner, repo, current.getId());
+            } catch (RestAPIException e) {
+                return new AssetUpload(null, new IOException(e));
             }
+            return uploadAsset(release, asset, metadata, name);
+        }
+
+        try {
+            ArtifactMetadataRegistry.Metadata assetMetadata = metadata.of(asset.getPath());
+            String digest = "sha256:" + assetMetadata.getDigest(Algorithm.SHA_256);
+            if (null != current.getSize() && current.getSize() == assetMetadata.getSize() &&
+                digest.equalsIgnoreCase(current.getDigest())) {
+                return AssetUpload.UNCHANGED;
+            }
+        } catch (IOException e) {
+            return new AssetUpload(null, e);
+        }
+
+        // asset names are unique, upload the replacement next to the current asset and
+        // swap them only once it is in place, so that a failed upload leaves the release intact
+        String temporaryName = name + ".sync-" + Long.toHexString(System.nanoTime());
+        AssetUpload upload = uploadAsset(release, asset, metadata, temporaryName);
+        if (null != upload.failure) return upload;
+
+        try {
+            xapi.deleteAsset(owner, repo, current.getId());
+            xapi.renameAsset(owner, repo, upload.id, name);
+        } catch (RestAPIException e) {
+            return new AssetUpload(null, new IOException(e));
+        }
+
+        return upload;
+    }
+
+    private AssetUpload uploadAsset(GHRelease release, Asset asset, ArtifactMetadataRegistry metadata, String name) {
+        try (InputStream in = Files.newInputStream(asset.getPath())) {
+            String contentType = metadata.of(asset.getPath())
+                .getContentType(path -> MediaType.parse(tika.detect(path)).toString());
+            GHAsset ghasset = release.uploadAsset(name, in, contentType);
+            return new AssetUpload(ghasset.getId(), ghasset.getState(), null);
+        } catch (IOException e) {
+            return new AssetUpload(null, e);
         }
     }
 
@@ -217,6 +367,30 @@ class Github {
         return ghTeam;
     }
 
+    private static final class AssetUpload {
+        private static final AssetUpload UNCHANGED = new AssetUpload(null, null, null, true);
+
+        private final Long id;
+        private final String state;
+        private final IOException failure;
+        private final boolean unchanged;
+
+        private AssetUpload(String state, IOException failure) {
+            this(null, state, failure, false);
+        }
+
+        private AssetUpload(Long id, String state, IOException failure) {
+            this(id, state, failure, false);
+        }
+
+        private AssetUpload(Long id, String state, IOException failure, boolean unchanged) {
+            this.id = id;
+            this.state = state;
+            this.failure = failure;
+            this.unchanged = unchanged;
+        }
+    }
+
     private static class JReleaserHttpConnector extends ImpatientHttpConnector {
         public JReleaserHttpConnector(int connectTimeout, int readTimeout) {
             super(HttpConnector.DEFAULT, connectTimeout * 1000, readTimeout * 1000);
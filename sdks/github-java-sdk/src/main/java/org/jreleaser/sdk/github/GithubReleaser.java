@@ -25,6 +25,7 @@ import org.jreleaser.model.releaser.spi.Asset;
 import org.jreleaser.model.releaser.spi.ReleaseException;
 import org.jreleaser.model.releaser.spi.Repository;
 import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.GitSdk;
 import org.jreleaser.sdk.git.ReleaseUtils;
@@ -35,7 +36,6 @@ import org.kohsuke.github.GHReleaseUpdater;
 import org.kohsuke.github.GHRepository;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +46,8 @@ import static org.jreleaser.util.StringUtils.isBlank;
  * @since 0.1.0
  */
 public class GithubReleaser extends AbstractReleaser {
+    private XGithub xapi;
+
     public GithubReleaser(JReleaserContext context, List<Asset> assets) {
         super(context, assets);
     }
@@ -82,7 +84,10 @@ public class GithubReleaser extends AbstractReleaser {
             boolean snapshot = context.getModel().getProject().isSnapshot();
             if (null != release) {
                 context.getLogger().debug(RB.$("git.releaser.release.exists"), tagName);
-                if (github.isOverwrite() || snapshot) {
+                if ((github.isOverwrite() || snapshot) && github.isSyncAssets()) {
+                    context.getLogger().debug(RB.$("git.releaser.release.update"), tagName);
+                    syncRelease(api, release, tagName, changelog);
+                } else if (github.isOverwrite() || snapshot) {
                     context.getLogger().debug(RB.$("git.releaser.release.delete"), tagName);
                     if (!context.isDryrun()) {
                         release.delete();
@@ -106,7 +111,12 @@ public class GithubReleaser extends AbstractReleaser {
                         updater.update();
 
                         if (github.getUpdateSections().contains(UpdateSection.ASSETS)) {
-                            api.uploadAssets(release, assets);
+                            if (github.isSyncAssets()) {
+                                api.syncAssets(release, xapi(), github.getOwner(), github.getName(), assets,
+                                    context.getArtifactMetadata(), github.getUploadParallelism());
+                            } else {
+                                api.uploadAssets(release, assets, context.getArtifactMetadata(), github.getUploadParallelism());
+                            }
                         }
                         linkDiscussion(tagName, release);
                     }
@@ -160,16 +170,9 @@ public class GithubReleaser extends AbstractReleaser {
 
     @Override
     public Optional<User> findUser(String email, String name) {
-        org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
-
         try {
-            return new XGithub(context.getLogger(),
-                github.getApiEndpoint(),
-                github.getResolvedToken(),
-                github.getConnectTimeout(),
-                github.getReadTimeout())
-                .findUser(email, name);
-        } catch (RestAPIException | IOException e) {
+            return lookupUser(email, name);
+        } catch (ReleaseException e) {
             context.getLogger().trace(e);
             context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
         }
@@ -177,12 +180,21 @@ public class GithubReleaser extends AbstractReleaser {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<User> lookupUser(String email, String name) throws ReleaseException {
+        try {
+            return xapi().findUser(email, name);
+        } catch (RestAPIException | IOException e) {
+            throw new ReleaseException(e);
+        }
+    }
+
     private void createRelease(Github api, String tagName, String changelog, boolean deleteTags) throws IOException {
         org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
 
         if (context.isDryrun()) {
             for (Asset asset : assets) {
-                if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
+                if (!context.getArtifactMetadata().of(asset.getPath()).isNotEmpty()) {
                     // do not upload empty or non existent files
                     continue;
                 }
@@ -210,7 +222,49 @@ public class GithubReleaser extends AbstractReleaser {
             .prerelease(github.getPrerelease().isEnabled())
             .body(changelog)
             .create();
-        api.uploadAssets(release, assets);
+        api.uploadAssets(release, assets, context.getArtifactMetadata(), github.getUploadParallelism());
+
+        closeMilestone(api);
+        linkDiscussion(tagName, release);
+    }
+
+    private void syncRelease(Github api, GHRelease release, String tagName, String changelog) throws IOException {
+        org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
+
+        if (context.isDryrun()) {
+            for (Asset asset : assets) {
+                if (!context.getArtifactMetadata().of(asset.getPath()).isNotEmpty()) {
+                    // do not upload empty or non existent files
+                    continue;
+                }
+
+                context.getLogger().info(" " + RB.$("git.upload.asset"), asset.getFilename());
+            }
+            return;
+        }
+
+        context.getLogger().debug(RB.$("git.releaser.repository.tag"), tagName);
+        GitSdk.of(context).tag(tagName, true, context);
+        // move the remote tag in place, deleting it first would leave the release untagged in between
+        api.moveTag(github.getCanonicalRepoName(), tagName, context.getModel().getCommit().getFullHash());
+
+        GHRelease updated = release.update()
+            .tag(tagName)
+            .commitish(github.getBranch())
+            .name(github.getEffectiveReleaseName())
+            .draft(github.isDraft())
+            .prerelease(github.getPrerelease().isEnabled())
+            .body(changelog)
+            .update();
+        api.syncAssets(updated, xapi(), github.getOwner(), github.getName(), assets,
+            context.getArtifactMetadata(), github.getUploadParallelism());
+
+        closeMilestone(api);
+        linkDiscussion(tagName, updated);
+    }
+
+    private void closeMilestone(Github api) throws IOException {
+        org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
 
         if (github.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GHMilestone> milestone = api.findMilestoneByName(
@@ -223,8 +277,6 @@ public class GithubReleaser extends AbstractReleaser {
                     milestone.get());
             }
         }
-
-        linkDiscussion(tagName, release);
     }
 
     private void linkDiscussion(String tagName, GHRelease release) {
@@ -240,15 +292,9 @@ public class GithubReleaser extends AbstractReleaser {
         if (context.isDryrun()) return;
 
         try {
-            XGithub xapi = new XGithub(context.getLogger(),
-                github.getApiEndpoint(),
-                github.getResolvedToken(),
-                github.getConnectTimeout(),
-                github.getReadTimeout());
-
             GhRelease ghRelease = new GhRelease();
             ghRelease.setDiscussionCategoryName(discussionCategoryName);
-            xapi.updateRelease(github.getOwner(),
+            xapi().updateRelease(github.getOwner(),
                 github.getName(),
                 tagName,
                 release.getId(),
@@ -260,6 +306,19 @@ public class GithubReleaser extends AbstractReleaser {
         }
     }
 
+    private synchronized XGithub xapi() throws IOException {
+        if (null == xapi) {
+            org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
+            xapi = new XGithub(context.getLogger(),
+                HttpClientPool.of(context),
+                github.getApiEndpoint(),
+                github.getResolvedToken(),
+                github.getConnectTimeout(),
+                github.getReadTimeout());
+        }
+        return xapi;
+    }
+
     private void deleteTags(Github api, String repo, String tagName) {
         // delete remote tag
         try {
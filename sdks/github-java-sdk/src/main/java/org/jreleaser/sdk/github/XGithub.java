@@ -23,13 +23,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import feign.form.FormEncoder;
-import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.releaser.spi.User;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.github.api.GhAsset;
 import org.jreleaser.sdk.github.api.GhRelease;
 import org.jreleaser.sdk.github.api.GhSearchUser;
 import org.jreleaser.sdk.github.api.GhUser;
@@ -38,6 +39,9 @@ import org.jreleaser.util.CollectionUtils;
 import org.jreleaser.util.JReleaserLogger;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
@@ -48,10 +52,13 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
  * @since 0.6.0
  */
 class XGithub {
+    private static final int ASSETS_PAGE_SIZE = 100;
+
     private final JReleaserLogger logger;
     private final GithubAPI api;
 
     XGithub(JReleaserLogger logger,
+            HttpClientPool pool,
             String endpoint,
             String token,
             int connectTimeout,
@@ -67,8 +74,7 @@ class XGithub {
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.logger = logger;
-        this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
-            .client(new ApacheHttpClient())
+        this.api = ClientUtils.builder(logger, pool, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("Authorization", String.format("token %s", token)))
@@ -81,6 +87,35 @@ class XGithub {
         api.updateRelease(release, owner, repo, id);
     }
 
+    /**
+     * Lists the assets of a release by name. The {@code digest} of an asset is only reported by servers
+     * that support it.
+     */
+    Map<String, GhAsset> listAssets(String owner, String repo, Long releaseId) throws RestAPIException {
+        Map<String, GhAsset> assets = new LinkedHashMap<>();
+
+        int page = 1;
+        List<GhAsset> batch;
+        do {
+            batch = api.listAssets(owner, repo, releaseId, ASSETS_PAGE_SIZE, page++);
+            for (GhAsset asset : batch) {
+                assets.put(asset.getName(), asset);
+            }
+        } while (batch.size() == ASSETS_PAGE_SIZE);
+
+        return assets;
+    }
+
+    void renameAsset(String owner, String repo, Long assetId, String name) throws RestAPIException {
+        GhAsset asset = new GhAsset();
+        asset.setName(name);
+        api.updateAsset(asset, owner, repo, assetId);
+    }
+
+    void deleteAsset(String owner, String repo, Long assetId) throws RestAPIException {
+        api.deleteAsset(owner, repo, assetId);
+    }
+
     Optional<User> findUser(String email, String name) throws RestAPIException {
         logger.debug(RB.$("git.user.lookup"), name, email);
 
@@ -22,6 +22,7 @@ import feign.Param;
 import feign.QueryMap;
 import feign.RequestLine;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,6 +34,19 @@ public interface GithubAPI {
     @Headers("Content-Type: application/json")
     void updateRelease(GhRelease release, @Param("owner") String owner, @Param("repo") String repo, @Param("id") Long id);
 
+    @RequestLine("GET /repos/{owner}/{repo}/releases/{id}/assets?per_page={perPage}&page={page}")
+    @Headers("Content-Type: application/json")
+    List<GhAsset> listAssets(@Param("owner") String owner, @Param("repo") String repo, @Param("id") Long id,
+                             @Param("perPage") int perPage, @Param("page") int page);
+
+    @RequestLine("PATCH /repos/{owner}/{repo}/releases/assets/{id}")
+    @Headers("Content-Type: application/json")
+    void updateAsset(GhAsset asset, @Param("owner") String owner, @Param("repo") String repo, @Param("id") Long id);
+
+    @RequestLine("DELETE /repos/{owner}/{repo}/releases/assets/{id}")
+    @Headers("Content-Type: application/json")
+    void deleteAsset(@Param("owner") String owner, @Param("repo") String repo, @Param("id") Long id);
+
     @RequestLine("GET /search/users")
     @Headers("Content-Type: application/json")
     GhSearchUser searchUser(@QueryMap Map<String, String> q);
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.github;
+
+import org.jreleaser.model.releaser.spi.Asset;
+import org.jreleaser.model.util.ArtifactMetadataRegistry;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.JReleaserLogger;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.GHRelease;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.patch;
+import static com.github.tomakehurst.wiremock.client.WireMock.patchRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class GithubSyncAssetsTest {
+    private static final String ASSETS_ENDPOINT = "/repos/jreleaser/app/releases/42/assets";
+    private static final String UPLOAD_ENDPOINT = "/uploads" + ASSETS_ENDPOINT;
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.DEBUG);
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path basedir;
+
+    @Test
+    public void testUnchangedAssetsAreSkippedChangedReplacedAndStaleDeleted() throws IOException {
+        // given:
+        Path same = write("same.txt", "same");
+        Path changed = write("changed.txt", "changed");
+        stubRelease();
+        stubFor(get(urlEqualTo(ASSETS_ENDPOINT + "?per_page=100&page=1"))
+            .willReturn(okJson("[" +
+                asset(1, "same.txt", 4, "sha256:" + sha256("same")) + "," +
+                asset(2, "changed.txt", 7, "sha256:" + sha256("old")) + "," +
+                asset(3, "stale.txt", 5, "sha256:" + sha256("stale")) +
+                "]")));
+        stubFor(post(urlPathEqualTo(UPLOAD_ENDPOINT))
+            .willReturn(okJson(asset(100, "changed.txt.sync", 7, null))));
+        stubFor(delete(urlEqualTo("/repos/jreleaser/app/releases/assets/2")).willReturn(aResponse().withStatus(204)));
+        stubFor(delete(urlEqualTo("/repos/jreleaser/app/releases/assets/3")).willReturn(aResponse().withStatus(204)));
+        stubFor(patch(urlEqualTo("/repos/jreleaser/app/releases/assets/100")).willReturn(okJson("{}")));
+
+        // when:
+        sync(Arrays.asList(Asset.file(same), Asset.file(changed)));
+
+        // then:
+        verify(exactly(1), postRequestedFor(urlPathEqualTo(UPLOAD_ENDPOINT)));
+        verify(postRequestedFor(urlPathEqualTo(UPLOAD_ENDPOINT))
+            .withQueryParam("name", matching("changed\\.txt\\.sync-[0-9a-f]+")));
+        verify(exactly(0), deleteRequestedFor(urlEqualTo("/repos/jreleaser/app/releases/assets/1")));
+        verify(deleteRequestedFor(urlEqualTo("/repos/jreleaser/app/releases/assets/2")));
+        verify(deleteRequestedFor(urlEqualTo("/repos/jreleaser/app/releases/assets/3")));
+        verify(patchRequestedFor(urlEqualTo("/repos/jreleaser/app/releases/assets/100"))
+            .withRequestBody(equalToJson("{\"name\": \"changed.txt\"}", true, true)));
+    }
+
+    @Test
+    public void testAssetsWithoutDigestAreReplacedInPlace() throws IOException {
+        // given:
+        Path same = write("same.txt", "same");
+        stubRelease();
+        stubFor(get(urlEqualTo(ASSETS_ENDPOINT + "?per_page=100&page=1"))
+            .willReturn(okJson("[" + asset(1, "same.txt", 4, null) + "]")));
+        stubFor(post(urlPathEqualTo(UPLOAD_ENDPOINT))
+            .willReturn(okJson(asset(100, "same.txt", 4, null))));
+        stubFor(delete(urlEqualTo("/repos/jreleaser/app/releases/assets/1")).willReturn(aResponse().withStatus(204)));
+
+        // when:
+        sync(Arrays.asList(Asset.file(same)));
+
+        // then:
+        verify(deleteRequestedFor(urlEqualTo("/repos/jreleaser/app/releases/assets/1")));
+        verify(postRequestedFor(urlPathEqualTo(UPLOAD_ENDPOINT))
+            .withQueryParam("name", equalTo("same.txt")));
+        verify(exactly(0), patchRequestedFor(urlPathEqualTo("/repos/jreleaser/app/releases/assets/100")));
+    }
+
+    private void sync(List<Asset> assets) throws IOException {
+        Github github = new Github(logger, api.baseUrl(), "GITHUB_TOKEN", 20, 60);
+        XGithub xgithub = new XGithub(logger, null, api.baseUrl(), "GITHUB_TOKEN", 20, 60);
+        GHRelease release = github.findReleaseByTag("jreleaser/app", "v1.0.0");
+        github.syncAssets(release, xgithub, "jreleaser", "app", assets, new ArtifactMetadataRegistry(), 1);
+    }
+
+    private void stubRelease() {
+        stubFor(get(urlEqualTo("/repos/jreleaser/app"))
+            .willReturn(okJson("{" +
+                "\"id\": 1," +
+                "\"name\": \"app\"," +
+                "\"full_name\": \"jreleaser/app\"," +
+                "\"owner\": {\"login\": \"jreleaser\"}," +
+                "\"url\": \"" + api.baseUrl() + "/repos/jreleaser/app\"" +
+                "}")));
+        stubFor(get(urlEqualTo("/repos/jreleaser/app/releases/tags/v1.0.0"))
+            .willReturn(okJson("{" +
+                "\"id\": 42," +
+                "\"tag_name\": \"v1.0.0\"," +
+                "\"url\": \"" + api.baseUrl() + "/repos/jreleaser/app/releases/42\"," +
+                "\"upload_url\": \"" + api.baseUrl() + UPLOAD_ENDPOINT + "{?name,label}\"" +
+                "}")));
+    }
+
+    private Path write(String name, String contents) throws IOException {
+        return Files.write(basedir.resolve(name), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String asset(long id, String name, long size, String digest) {
+        return "{" +
+            "\"id\": " + id + "," +
+            "\"name\": \"" + name + "\"," +
+            "\"size\": " + size + "," +
+            "\"state\": \"uploaded\"" +
+            (null != digest ? ",\"digest\": \"" + digest + "\"" : "") +
+            "}";
+    }
+
+    private static String sha256(String contents) throws IOException {
+        return ChecksumUtils.checksum(Algorithm.SHA_256, contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -22,15 +22,14 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import feign.form.FormData;
 import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.tika.Tika;
-import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.releaser.spi.Asset;
+import org.jreleaser.model.util.ArtifactMetadataRegistry;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.gitlab.api.FileUpload;
 import org.jreleaser.sdk.gitlab.api.GitlabAPI;
@@ -40,14 +39,15 @@ import org.jreleaser.sdk.gitlab.api.Project;
 import org.jreleaser.sdk.gitlab.api.Release;
 import org.jreleaser.sdk.gitlab.api.User;
 import org.jreleaser.util.CollectionUtils;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.JReleaserLogger;
 import org.jreleaser.util.StringUtils;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,21 +63,28 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
 class Gitlab {
     static final String ENDPOINT = "https://gitlab.com/api/v4";
     private static final String API_V4 = "/api/v4";
-    private final Tika tika = new Tika();
 
     private final JReleaserLogger logger;
+    private final HttpClientPool pool;
     private final GitlabAPI api;
+    private final ObjectMapper objectMapper;
+    private final String endpoint;
     private final String apiHost;
+    private final String token;
+    private final int connectTimeout;
+    private final int readTimeout;
 
     private User user;
     private Project project;
 
     Gitlab(JReleaserLogger logger,
+           HttpClientPool pool,
            String endpoint,
            String token,
            int connectTimeout,
            int readTimeout) throws IOException {
         requireNonNull(logger, "'logger' must not be null");
+        requireNonNull(pool, "'pool' must not be null");
         requireNonBlank(token, "'token' must not be blank");
 
         if (isBlank(endpoint)) {
@@ -93,14 +100,19 @@ class Gitlab {
 
         apiHost = endpoint.substring(0, endpoint.length() - API_V4.length());
 
-        ObjectMapper objectMapper = new ObjectMapper()
+        this.objectMapper = new ObjectMapper()
             .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
             .setSerializationInclusion(JsonInclude.Include.NON_NULL)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.logger = logger;
-        this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
+        this.pool = pool;
+        this.endpoint = endpoint;
+        this.token = token;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.api = ClientUtils.builder(logger, pool, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", token)))
@@ -233,63 +245,60 @@ class Gitlab {
         api.updateRelease(release, project.getId());
     }
 
-    Collection<FileUpload> uploadAssets(String owner, String repoName, String identifier, List<Asset> assets) throws IOException, RestAPIException {
+    Collection<FileUpload> uploadAssets(String owner, String repoName, String identifier, List<Asset> assets, ArtifactMetadataRegistry metadata, int parallelism) throws IOException, RestAPIException {
         logger.debug(RB.$("git.upload.assets"), owner, repoName);
 
-        List<FileUpload> uploads = new ArrayList<>();
-
-        Project project = getProject(repoName, identifier);
-
+        List<Asset> uploadable = new ArrayList<>();
         for (Asset asset : assets) {
-            if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
+            if (!metadata.of(asset.getPath()).isNotEmpty()) {
                 // do not upload empty or non existent files
                 continue;
             }
-
-            logger.info(" " + RB.$("git.upload.asset"), asset.getFilename());
-            try {
-                FileUpload upload = api.uploadFile(project.getId(), toFormData(asset.getPath()));
-                upload.setName(asset.getFilename());
-                uploads.add(upload);
-            } catch (IOException | RestAPIException e) {
-                logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
-                throw e;
-            }
+            uploadable.add(asset);
         }
 
-        return uploads;
-    }
-
-    void linkReleaseAssets(String owner, String repoName, Release release, String identifier, Collection<FileUpload> uploads) throws IOException, RestAPIException {
-        logger.debug(RB.$("git.upload.asset.links"), owner, repoName, release.getTagName());
-
         Project project = getProject(repoName, identifier);
 
+        try {
+            return ConcurrentUtils.mapAll("gitlab-upload", parallelism, uploadable,
+                asset -> uploadAsset(project, asset),
+                (asset, upload) -> logger.info(" " + RB.$("git.upload.asset"), asset.getFilename()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    Collection<LinkRequest> toLinkRequests(Collection<FileUpload> uploads) {
+        List<LinkRequest> links = new ArrayList<>();
         for (FileUpload upload : uploads) {
-            logger.debug(" " + RB.$("git.upload.asset.link"), upload.getName());
-            try {
-                api.linkAsset(upload.toLinkRequest(apiHost), project.getId(), release.getTagName());
-            } catch (RestAPIException e) {
-                logger.error(" " + RB.$("git.upload.asset.link.failure"), upload.getName());
-                throw e;
-            }
+            links.add(upload.toLinkRequest(apiHost));
         }
+        return links;
+    }
+
+    void linkReleaseAssets(String owner, String repoName, Release release, String identifier, Collection<FileUpload> uploads, int parallelism) throws IOException, RestAPIException {
+        linkAssets(owner, repoName, release, identifier, toLinkRequests(uploads), parallelism);
     }
 
-    void linkAssets(String owner, String repoName, Release release, String identifier, Collection<LinkRequest> links) throws IOException, RestAPIException {
+    /**
+     * Links assets to an existing release. GitLab takes one link per call, calls are issued concurrently
+     * using up to {@code parallelism} threads. Prefer setting the links on the {@code Release} when creating it.
+     */
+    void linkAssets(String owner, String repoName, Release release, String identifier, Collection<LinkRequest> links, int parallelism) throws IOException, RestAPIException {
         logger.debug(RB.$("git.upload.asset.links"), owner, repoName, release.getTagName());
 
         Project project = getProject(repoName, identifier);
 
-        for (LinkRequest link : links) {
-            logger.info(" " + RB.$("git.upload.asset.link"), link.getName());
-            try {
-                api.linkAsset(link, project.getId(), release.getTagName());
-            } catch (RestAPIException e) {
-                logger.error(" " + RB.$("git.upload.asset.link.failure"), link.getName());
-                throw e;
-            }
-        }
+        ConcurrentUtils.mapAll("gitlab-link", parallelism, links,
+            link -> {
+                try {
+                    return api.linkAsset(link, project.getId(), release.getTagName());
+                } catch (RestAPIException e) {
+                    logger.error(" " + RB.$("git.upload.asset.link.failure"), link.getName());
+                    throw e;
+                }
+            },
+            (link, linked) -> logger.info(" " + RB.$("git.upload.asset.link"), link.getName()));
     }
 
     Optional<org.jreleaser.model.releaser.spi.User> findUser(String email, String name) throws RestAPIException {
@@ -312,11 +321,25 @@ class Gitlab {
         return Optional.empty();
     }
 
-    private FormData toFormData(Path asset) throws IOException {
-        return FormData.builder()
-            .fileName(asset.getFileName().toString())
-            .contentType(MediaType.parse(tika.detect(asset)).toString())
-            .data(Files.readAllBytes(asset))
-            .build();
+    private FileUpload uploadAsset(Project project, Asset asset) {
+        try {
+            String response = ClientUtils.postMultipart(logger,
+                pool,
+                endpoint + "/projects/" + project.getId() + "/uploads",
+                connectTimeout,
+                readTimeout,
+                Collections.singletonMap("Authorization", String.format("Bearer %s", token)),
+                "file",
+                asset.getPath());
+            FileUpload upload = objectMapper.readValue(response, FileUpload.class);
+            upload.setName(asset.getFilename());
+            return upload;
+        } catch (IOException e) {
+            logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
+            throw new UncheckedIOException(e);
+        } catch (RestAPIException e) {
+            logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
+            throw e;
+        }
     }
 }
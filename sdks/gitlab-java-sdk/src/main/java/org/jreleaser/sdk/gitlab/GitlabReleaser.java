@@ -30,6 +30,7 @@ import org.jreleaser.model.releaser.spi.ReleaseException;
 import org.jreleaser.model.releaser.spi.Repository;
 import org.jreleaser.model.releaser.spi.User;
 import org.jreleaser.model.util.Artifacts;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.GitSdk;
 import org.jreleaser.sdk.git.ReleaseUtils;
@@ -40,7 +41,6 @@ import org.jreleaser.sdk.gitlab.api.Project;
 import org.jreleaser.sdk.gitlab.api.Release;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -56,6 +56,8 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 public class GitlabReleaser extends AbstractReleaser {
+    private Gitlab userApi;
+
     public GitlabReleaser(JReleaserContext context, List<Asset> assets) {
         super(context, assets);
     }
@@ -82,6 +84,7 @@ public class GitlabReleaser extends AbstractReleaser {
             String changelog = context.getChangelog();
 
             Gitlab api = new Gitlab(context.getLogger(),
+                HttpClientPool.of(context),
                 gitlab.getApiEndpoint(),
                 gitlab.getResolvedToken(),
                 gitlab.getConnectTimeout(),
@@ -120,12 +123,12 @@ public class GitlabReleaser extends AbstractReleaser {
 
                         if (gitlab.getUpdateSections().contains(UpdateSection.ASSETS)) {
                             if (!assets.isEmpty()) {
-                                Collection<FileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), assets);
-                                api.linkReleaseAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), uploads);
+                                Collection<FileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), assets, context.getArtifactMetadata(), gitlab.getUploadParallelism());
+                                api.linkReleaseAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), uploads, gitlab.getUploadParallelism());
                             }
                             if (!gitlab.getUploadLinks().isEmpty()) {
                                 Collection<LinkRequest> links = collectUploadLinks(gitlab);
-                                api.linkAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), links);
+                                api.linkAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), links, gitlab.getUploadParallelism());
                             }
                         }
                     }
@@ -160,6 +163,7 @@ public class GitlabReleaser extends AbstractReleaser {
         context.getLogger().debug(RB.$("git.repository.lookup"), owner, repo);
 
         Gitlab api = new Gitlab(context.getLogger(),
+            HttpClientPool.of(context),
             gitlab.getApiEndpoint(),
             password,
             gitlab.getConnectTimeout(),
@@ -188,16 +192,9 @@ public class GitlabReleaser extends AbstractReleaser {
 
     @Override
     public Optional<User> findUser(String email, String name) {
-        org.jreleaser.model.Gitlab gitlab = context.getModel().getRelease().getGitlab();
-
         try {
-            return new Gitlab(context.getLogger(),
-                gitlab.getApiEndpoint(),
-                gitlab.getResolvedToken(),
-                gitlab.getConnectTimeout(),
-                gitlab.getReadTimeout())
-                .findUser(email, name);
-        } catch (RestAPIException | IOException e) {
+            return lookupUser(email, name);
+        } catch (ReleaseException e) {
             context.getLogger().trace(e);
             context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
         }
@@ -205,6 +202,28 @@ public class GitlabReleaser extends AbstractReleaser {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<User> lookupUser(String email, String name) throws ReleaseException {
+        try {
+            return userApi().findUser(email, name);
+        } catch (RestAPIException | IOException e) {
+            throw new ReleaseException(e);
+        }
+    }
+
+    private synchronized Gitlab userApi() throws IOException {
+        if (null == userApi) {
+            org.jreleaser.model.Gitlab gitlab = context.getModel().getRelease().getGitlab();
+            userApi = new Gitlab(context.getLogger(),
+                HttpClientPool.of(context),
+                gitlab.getApiEndpoint(),
+                gitlab.getResolvedToken(),
+                gitlab.getConnectTimeout(),
+                gitlab.getReadTimeout());
+        }
+        return userApi;
+    }
+
     private void createRelease(Gitlab api, String tagName, String changelog, boolean deleteTags) throws IOException {
         org.jreleaser.model.Gitlab gitlab = context.getModel().getRelease().getGitlab();
 
@@ -213,7 +232,7 @@ public class GitlabReleaser extends AbstractReleaser {
         if (context.isDryrun()) {
             if (!assets.isEmpty()) {
                 for (Asset asset : assets) {
-                    if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
+                    if (!context.getArtifactMetadata().of(asset.getPath()).isNotEmpty()) {
                         // do not upload empty or non existent files
                         continue;
                     }
@@ -246,17 +265,24 @@ public class GitlabReleaser extends AbstractReleaser {
         release.setRef(gitlab.getBranch());
         release.setDescription(changelog);
 
-        // remote tag/release
-        api.createRelease(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), release);
-
+        // upload first so that every link is sent along with the release in a single call
+        Release.Assets releaseAssets = new Release.Assets();
         if (!assets.isEmpty()) {
-            Collection<FileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), assets);
-            api.linkReleaseAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), uploads);
+            Collection<FileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), assets, context.getArtifactMetadata(), gitlab.getUploadParallelism());
+            releaseAssets.getLinks().addAll(api.toLinkRequests(uploads));
         }
-        if (!links.isEmpty()) {
-            api.linkAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), links);
+        releaseAssets.getLinks().addAll(links);
+        if (!releaseAssets.getLinks().isEmpty()) {
+            context.getLogger().debug(RB.$("git.upload.asset.links"), gitlab.getOwner(), gitlab.getName(), tagName);
+            for (LinkRequest link : releaseAssets.getLinks()) {
+                context.getLogger().info(" " + RB.$("git.upload.asset.link"), link.getName());
+            }
+            release.setAssets(releaseAssets);
         }
 
+        // remote tag/release
+        api.createRelease(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), release);
+
         if (gitlab.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<Milestone> milestone = api.findMilestoneByName(
                 gitlab.getOwner(),
@@ -296,7 +322,7 @@ public class GitlabReleaser extends AbstractReleaser {
                 if (!artifact.isActive()) continue;
                 Path path = artifact.getEffectivePath(context);
                 if (isSkip(artifact, keys)) continue;
-                if (Files.exists(path) && 0 != path.toFile().length()) {
+                if (context.getArtifactMetadata().of(path).isNotEmpty()) {
                     artifacts.add(artifact);
                 }
             }
@@ -309,7 +335,7 @@ public class GitlabReleaser extends AbstractReleaser {
                     if (!artifact.isActive()) continue;
                     Path path = artifact.getEffectivePath(context, distribution);
                     if (isSkip(artifact, keys)) continue;
-                    if (Files.exists(path) && 0 != path.toFile().length()) {
+                    if (context.getArtifactMetadata().of(path).isNotEmpty()) {
                         String platform = artifact.getPlatform();
                         String platformReplaced = distribution.getPlatform().applyReplacements(platform);
                         if (isNotBlank(platformReplaced)) {
@@ -329,7 +355,7 @@ public class GitlabReleaser extends AbstractReleaser {
                 if (artifact.extraPropertyIsTrue(KEY_SKIP_SIGNING)) continue;
                 Path signaturePath = context.getSignaturesDirectory()
                     .resolve(artifact.getEffectivePath(context).getFileName() + extension);
-                if (Files.exists(signaturePath) && 0 != signaturePath.toFile().length()) {
+                if (context.getArtifactMetadata().of(signaturePath).isNotEmpty()) {
                     signatures.add(Artifact.of(signaturePath));
                 }
             }
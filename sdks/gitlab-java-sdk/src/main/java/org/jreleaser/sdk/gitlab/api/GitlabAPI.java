@@ -21,7 +21,6 @@ import feign.Headers;
 import feign.Param;
 import feign.QueryMap;
 import feign.RequestLine;
-import feign.form.FormData;
 
 import java.util.List;
 import java.util.Map;
@@ -62,10 +61,6 @@ public interface GitlabAPI {
     @Headers("Content-Type: application/json")
     void updateRelease(Release release, @Param("projectId") Integer projectId);
 
-    @RequestLine("POST /projects/{projectId}/uploads")
-    @Headers("Content-Type: multipart/form-data")
-    FileUpload uploadFile(@Param("projectId") Integer projectId, @Param("file") FormData file);
-
     @RequestLine("POST /projects/{projectId}/releases/{tagName}/assets/links")
     @Headers("Content-Type: multipart/form-data")
     Link linkAsset(LinkRequest link, @Param("projectId") Integer projectId, @Param("tagName") String tagName);
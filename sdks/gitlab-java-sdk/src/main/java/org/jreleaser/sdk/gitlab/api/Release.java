@@ -19,7 +19,9 @@ package org.jreleaser.sdk.gitlab.api;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * @author Andres Almiray
@@ -33,6 +35,7 @@ public class Release {
     private String ref;
     private Date createdAt;
     private Date releasedAt;
+    private Assets assets;
 
     public String getName() {
         return name;
@@ -81,4 +84,25 @@ public class Release {
     public void setReleasedAt(Date releasedAt) {
         this.releasedAt = releasedAt;
     }
+
+    public Assets getAssets() {
+        return assets;
+    }
+
+    public void setAssets(Assets assets) {
+        this.assets = assets;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Assets {
+        private List<LinkRequest> links = new ArrayList<>();
+
+        public List<LinkRequest> getLinks() {
+            return links;
+        }
+
+        public void setLinks(List<LinkRequest> links) {
+            this.links = links;
+        }
+    }
 }
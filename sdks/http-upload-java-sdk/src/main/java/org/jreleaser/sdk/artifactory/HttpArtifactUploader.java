@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Http;
@@ -26,9 +25,8 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 
-import java.io.IOException;
-import java.nio.file.Path;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -73,53 +71,44 @@ public class HttpArtifactUploader extends AbstractArtifactUploader<Http> {
         String username = uploader.getResolvedUsername();
         String password = uploader.getResolvedPassword();
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
-
-            if (!context.isDryrun()) {
-                try {
-                    FormData data = ClientUtils.toFormData(path);
-
-                    Map<String, String> headers = new LinkedHashMap<>();
-                    switch (uploader.resolveAuthorization()) {
-                        case NONE:
-                            break;
-                        case BASIC:
-                            String auth = username + ":" + password;
-                            byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
-                            auth = new String(encodedAuth);
-                            headers.put("Authorization", "Basic " + auth);
-                            break;
-                        case BEARER:
-                            headers.put("Authorization", "Bearer " + password);
-                            break;
-                    }
-
-                    resolveHeaders(artifact, headers);
+        uploadArtifacts(artifacts, (artifact, path) -> {
+            if (context.isDryrun()) return;
+
+            Map<String, String> headers = new LinkedHashMap<>();
+            switch (uploader.resolveAuthorization()) {
+                case NONE:
+                    break;
+                case BASIC:
+                    String auth = username + ":" + password;
+                    byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
+                    auth = new String(encodedAuth);
+                    headers.put("Authorization", "Basic " + auth);
+                    break;
+                case BEARER:
+                    headers.put("Authorization", "Bearer " + password);
+                    break;
+            }
 
-                    if (uploader.getMethod() == HttpUploader.Method.POST) {
-                        ClientUtils.postFile(context.getLogger(),
-                            uploader.getResolvedUploadUrl(context, artifact),
-                            uploader.getConnectTimeout(),
-                            uploader.getReadTimeout(),
-                            data,
-                            headers);
-                    } else {
-                        ClientUtils.putFile(context.getLogger(),
-                            uploader.getResolvedUploadUrl(context, artifact),
-                            uploader.getConnectTimeout(),
-                            uploader.getReadTimeout(),
-                            data,
-                            headers);
-                    }
-                } catch (IOException e) {
-                    context.getLogger().trace(e);
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e);
-                }
+            resolveHeaders(artifact, headers);
+
+            if (uploader.getMethod() == HttpUploader.Method.POST) {
+                ClientUtils.postFile(context.getLogger(),
+                    HttpClientPool.of(context),
+                    uploader.getResolvedUploadUrl(context, artifact),
+                    uploader.getConnectTimeout(),
+                    uploader.getReadTimeout(),
+                    path,
+                    headers);
+            } else {
+                ClientUtils.putFile(context.getLogger(),
+                    HttpClientPool.of(context),
+                    uploader.getResolvedUploadUrl(context, artifact),
+                    uploader.getConnectTimeout(),
+                    uploader.getReadTimeout(),
+                    path,
+                    headers);
             }
-        }
+        });
     }
 
     private void resolveHeaders(Artifact artifact, Map<String, String> headers) {
@@ -26,10 +26,11 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Signing;
 import org.jreleaser.model.Uploader;
 import org.jreleaser.model.uploader.spi.ArtifactUploader;
+import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ConcurrentUtils;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -62,7 +63,7 @@ public abstract class AbstractArtifactUploader<U extends Uploader> implements Ar
                 if (!artifact.isActive()) continue;
                 Path path = artifact.getEffectivePath(context);
                 if (isSkip(artifact, keys)) continue;
-                if (Files.exists(path) && 0 != path.toFile().length()) {
+                if (context.getArtifactMetadata().of(path).isNotEmpty()) {
                     artifacts.add(artifact);
                     if (uploadChecksums && isIndividual(context, artifact) &&
                         !artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM)) {
@@ -82,7 +83,7 @@ public abstract class AbstractArtifactUploader<U extends Uploader> implements Ar
                     if (!artifact.isActive()) continue;
                     Path path = artifact.getEffectivePath(context, distribution);
                     if (isSkip(artifact, keys)) continue;
-                    if (Files.exists(path) && 0 != path.toFile().length()) {
+                    if (context.getArtifactMetadata().of(path).isNotEmpty()) {
                         String platform = artifact.getPlatform();
                         String platformReplaced = distribution.getPlatform().applyReplacements(platform);
                         if (isNotBlank(platformReplaced)) {
@@ -105,7 +106,7 @@ public abstract class AbstractArtifactUploader<U extends Uploader> implements Ar
             for (Algorithm algorithm : checksum.getAlgorithms()) {
                 Path checksums = context.getChecksumsDirectory()
                     .resolve(checksum.getResolvedName(context, algorithm));
-                if (Files.exists(checksums)) {
+                if (context.getArtifactMetadata().of(checksums).exists()) {
                     artifacts.add(Artifact.of(checksums));
                 }
             }
@@ -120,7 +121,7 @@ public abstract class AbstractArtifactUploader<U extends Uploader> implements Ar
                 if (artifact.extraPropertyIsTrue(KEY_SKIP_SIGNING)) continue;
                 Path signaturePath = context.getSignaturesDirectory()
                     .resolve(artifact.getEffectivePath(context).getFileName() + extension);
-                if (Files.exists(signaturePath) && 0 != signaturePath.toFile().length()) {
+                if (context.getArtifactMetadata().of(signaturePath).isNotEmpty()) {
                     signatures.add(Artifact.of(signaturePath, artifact.getExtraProperties()));
                 }
             }
@@ -135,6 +136,29 @@ public abstract class AbstractArtifactUploader<U extends Uploader> implements Ar
         return artifacts;
     }
 
+    /**
+     * Uploads every artifact using up to {@code getUploader().getParallelism()} concurrent transfers.
+     * Progress is logged in artifact order. The first failure cancels all pending uploads and is rethrown.
+     *
+     * @since 1.0.0
+     */
+    protected void uploadArtifacts(List<Artifact> artifacts, ArtifactUpload upload) throws UploadException {
+        try {
+            ConcurrentUtils.mapAll("upload", getUploader().getParallelism(), artifacts,
+                artifact -> {
+                    try {
+                        upload.upload(artifact, artifact.getEffectivePath(context));
+                        return artifact;
+                    } catch (UploadException e) {
+                        throw new UploadFailure(e);
+                    }
+                },
+                (artifact, uploaded) -> context.getLogger().info(" - {}", artifact.getEffectivePath(context).getFileName()));
+        } catch (UploadFailure e) {
+            throw e.getCause();
+        }
+    }
+
     private boolean isSkip(ExtraProperties props, List<String> keys) {
         for (String key : keys) {
             if (props.extraPropertyIsTrue(key)) {
@@ -160,4 +184,25 @@ public abstract class AbstractArtifactUploader<U extends Uploader> implements Ar
         }
         return context.getModel().getChecksum().isIndividual();
     }
+
+    /**
+     * Transfers a single artifact.
+     *
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    protected interface ArtifactUpload {
+        void upload(Artifact artifact, Path path) throws UploadException;
+    }
+
+    private static final class UploadFailure extends RuntimeException {
+        private UploadFailure(UploadException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized UploadException getCause() {
+            return (UploadException) super.getCause();
+        }
+    }
 }
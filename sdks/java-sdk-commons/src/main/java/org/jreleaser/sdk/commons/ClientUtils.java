@@ -26,6 +26,17 @@ import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.apache.commons.io.IOUtils;
+import org.apache.http.Header;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
@@ -36,15 +47,19 @@ import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.JReleaserLogger;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.io.SequenceInputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -57,6 +72,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 public final class ClientUtils {
     private static final Tika TIKA = new Tika();
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private ClientUtils() {
         // noop
@@ -83,6 +99,74 @@ public final class ClientUtils {
             .options(new Request.Options(connectTimeout, TimeUnit.SECONDS, readTimeout, TimeUnit.SECONDS, true));
     }
 
+    /**
+     * Creates a Feign builder whose requests go through the given connection pool.
+     * Falls back to the default client when {@code pool} is {@code null}.
+     *
+     * @since 1.0.0
+     */
+    public static Feign.Builder builder(JReleaserLogger logger,
+                                        HttpClientPool pool,
+                                        int connectTimeout,
+                                        int readTimeout) {
+        Feign.Builder builder = builder(logger, connectTimeout, readTimeout);
+        if (null != pool) builder.client(pool.getClient());
+        return builder;
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public static void webhook(JReleaserLogger logger,
+                               HttpClientPool pool,
+                               String webhookUrl,
+                               int connectTimeout,
+                               int readTimeout,
+                               Object message) throws AnnounceException {
+        if (message instanceof String) {
+            webhook(logger, pool, webhookUrl, connectTimeout, readTimeout, (String) message);
+            return;
+        }
+
+        try {
+            ObjectMapper objectMapper = new ObjectMapper();
+            webhook(logger, pool, webhookUrl, connectTimeout, readTimeout, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new AnnounceException(e);
+        }
+    }
+
+    /**
+     * @since 1.0.0
+     */
+    public static void webhook(JReleaserLogger logger,
+                               HttpClientPool pool,
+                               String webhookUrl,
+                               int connectTimeout,
+                               int readTimeout,
+                               String message) throws AnnounceException {
+        requireNonNull(pool, "'pool' must not be null");
+
+        HttpPost request = new HttpPost(webhookUrl);
+        request.setConfig(requestConfig(connectTimeout, readTimeout, false));
+        request.addHeader("Accept", "application/json");
+        request.setEntity(new StringEntity(message, ContentType.APPLICATION_JSON));
+
+        logger.debug(RB.$("webhook.message.send"));
+        try (CloseableHttpResponse response = pool.getHttpClient().execute(request)) {
+            logger.debug(RB.$("webhook.response.handle"));
+            int status = response.getStatusLine().getStatusCode();
+            String body = null != response.getEntity() ? EntityUtils.toString(response.getEntity(), UTF_8) : null;
+            if (status >= 400) {
+                throw new AnnounceException(errorMessage("Webhook replied with: ", status,
+                    response.getStatusLine().getReasonPhrase(), body));
+            }
+        } catch (IOException e) {
+            logger.trace(e);
+            throw new AnnounceException(e);
+        }
+    }
+
     public static void webhook(JReleaserLogger logger,
                                String webhookUrl,
                                int connectTimeout,
@@ -90,6 +174,7 @@ public final class ClientUtils {
                                Object message) throws AnnounceException {
         if (message instanceof String) {
             webhook(logger, webhookUrl, connectTimeout, readTimeout, (String) message);
+            return;
         }
 
         try {
@@ -138,17 +223,7 @@ public final class ClientUtils {
                 String reason = connection.getResponseMessage();
                 Reader reader = new InputStreamReader(connection.getErrorStream(), UTF_8);
                 message = IOUtils.toString(reader);
-                StringBuilder b = new StringBuilder("Webhook replied with: ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason)
-                        .append(",");
-                }
-                if (isNotBlank(message)) {
-                    b.append(message);
-                }
-                throw new AnnounceException(b.toString());
+                throw new AnnounceException(errorMessage("Webhook replied with: ", status, reason, message));
             }
         } catch (IOException e) {
             logger.trace(e);
@@ -156,94 +231,297 @@ public final class ClientUtils {
         }
     }
 
+    /**
+     * Sends the contents of {@code data} with a POST request over a pooled connection.
+     *
+     * @since 1.0.0
+     */
     public static void postFile(JReleaserLogger logger,
+                                HttpClientPool pool,
                                 String url,
                                 int connectTimeout,
                                 int readTimeout,
                                 FormData data,
                                 Map<String, String> headers) throws UploadException {
-        headers.put("METHOD", "POST");
-        uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
+        HttpPost request = new HttpPost(url);
+        request.setEntity(toEntity(data));
+        execute(logger, pool, request, connectTimeout, readTimeout, false, headers);
     }
 
+    /**
+     * Sends the contents of {@code data} with a PUT request over a pooled connection.
+     *
+     * @since 1.0.0
+     */
     public static void putFile(JReleaserLogger logger,
+                               HttpClientPool pool,
                                String url,
                                int connectTimeout,
                                int readTimeout,
                                FormData data,
                                Map<String, String> headers) throws UploadException {
-        headers.put("METHOD", "PUT");
-        headers.put("Expect", "100-continue");
-        uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
+        HttpPut request = new HttpPut(url);
+        request.setEntity(toEntity(data));
+        execute(logger, pool, request, connectTimeout, readTimeout, true, headers);
     }
 
-    private static void uploadFile(JReleaserLogger logger,
-                                   String url,
-                                   int connectTimeout,
-                                   int readTimeout,
-                                   FormData data,
-                                   Map<String, String> headers) throws UploadException {
-        try {
-            // create URL
-            URL theUrl = new URL(url);
-            logger.debug("url: {}", theUrl);
+    /**
+     * Streams the contents of {@code asset} with a POST request over a pooled connection.
+     * Memory use does not depend on the size of the file.
+     *
+     * @since 1.0.0
+     */
+    public static void postFile(JReleaserLogger logger,
+                                HttpClientPool pool,
+                                String url,
+                                int connectTimeout,
+                                int readTimeout,
+                                Path asset,
+                                Map<String, String> headers) throws UploadException {
+        HttpPost request = new HttpPost(url);
+        request.setEntity(new PathEntity(asset));
+        execute(logger, pool, request, connectTimeout, readTimeout, false, headers);
+    }
 
-            // open connection
-            logger.debug(RB.$("webhook.connection.open"));
-            HttpURLConnection connection = (HttpURLConnection) theUrl.openConnection();
-            // set options
-            logger.debug(RB.$("webhook.connection.configure"));
-            connection.setConnectTimeout(connectTimeout * 1000);
-            connection.setReadTimeout(readTimeout * 1000);
-            connection.setAllowUserInteraction(false);
-            connection.setInstanceFollowRedirects(true);
+    /**
+     * Streams the contents of {@code asset} with a PUT request over a pooled connection.
+     * Memory use does not depend on the size of the file.
+     *
+     * @since 1.0.0
+     */
+    public static void putFile(JReleaserLogger logger,
+                               HttpClientPool pool,
+                               String url,
+                               int connectTimeout,
+                               int readTimeout,
+                               Path asset,
+                               Map<String, String> headers) throws UploadException {
+        HttpPut request = new HttpPut(url);
+        request.setEntity(new PathEntity(asset));
+        execute(logger, pool, request, connectTimeout, readTimeout, true, headers);
+    }
 
-            connection.setRequestMethod(headers.remove("METHOD"));
-            connection.addRequestProperty("Accept", "*/*");
-            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.addRequestProperty("Content-Length", data.getData().length + "");
-            connection.setRequestProperty("Content-Type", data.getContentType());
-            headers.forEach(connection::setRequestProperty);
-
-            connection.getRequestProperties().forEach((k, v) -> {
-                if (JReleaserModelPrinter.isSecret(k)) {
-                    logger.debug("{}: {}", k, Constants.HIDE);
-                } else {
-                    logger.debug("{}: {}", k, v);
-                }
-            });
+    /**
+     * Sends a PUT request without a body, relying on headers alone, for example a deploy by checksum.
+     *
+     * @return {@code false} if the server replied with 404, {@code true} otherwise
+     * @since 1.0.0
+     */
+    public static boolean putHeaders(JReleaserLogger logger,
+                                     HttpClientPool pool,
+                                     String url,
+                                     int connectTimeout,
+                                     int readTimeout,
+                                     Map<String, String> headers) throws UploadException {
+        HttpPut request = new HttpPut(url);
+        request.setEntity(new ByteArrayEntity(new byte[0], ContentType.APPLICATION_OCTET_STREAM));
+        return execute(logger, pool, request, connectTimeout, readTimeout, false, headers, 404) != 404;
+    }
 
-            connection.setDoOutput(true);
+    /**
+     * Sends {@code file} as the single part of a multipart/form-data POST request over a pooled connection.
+     * The file is streamed with a fixed size buffer, it is never loaded into memory.
+     *
+     * @param name the name of the form field that holds the file
+     * @return the response body
+     * @since 1.0.0
+     */
+    public static String postMultipart(JReleaserLogger logger,
+                                       HttpClientPool pool,
+                                       String url,
+                                       int connectTimeout,
+                                       int readTimeout,
+                                       Map<String, String> headers,
+                                       String name,
+                                       Path file) throws IOException {
+        HttpPost request = new HttpPost(url);
+        request.setConfig(requestConfig(connectTimeout, readTimeout, false));
+        request.addHeader("Accept", "application/json");
+        headers.forEach(request::setHeader);
+        request.setEntity(new MultipartFileEntity(name, file));
 
-            // write message
-            logger.debug(RB.$("webhook.data.send"));
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getData(), 0, data.getData().length);
-                os.flush();
+        logger.debug("url: {}", request.getURI());
+        try (CloseableHttpResponse response = pool.getHttpClient().execute(request)) {
+            int status = response.getStatusLine().getStatusCode();
+            String body = null != response.getEntity() ? EntityUtils.toString(response.getEntity(), UTF_8) : null;
+            if (status >= 400) {
+                logger.debug(errorMessage("Got ", status, response.getStatusLine().getReasonPhrase(), body));
+                throw new RestAPIException(status, response.getStatusLine().getReasonPhrase());
             }
+            return body;
+        }
+    }
 
-            // handle response
+    private static int execute(JReleaserLogger logger,
+                               HttpClientPool pool,
+                               HttpEntityEnclosingRequestBase request,
+                               int connectTimeout,
+                               int readTimeout,
+                               boolean expectContinue,
+                               Map<String, String> headers,
+                               int... toleratedStatus) throws UploadException {
+        logger.debug("url: {}", request.getURI());
+        request.setConfig(requestConfig(connectTimeout, readTimeout, expectContinue));
+        request.addHeader("Accept", "*/*");
+        request.addHeader("Content-Type", request.getEntity().getContentType().getValue());
+        headers.forEach(request::setHeader);
+
+        logger.debug("Content-Length: {}", request.getEntity().getContentLength());
+        for (Header header : request.getAllHeaders()) {
+            if (JReleaserModelPrinter.isSecret(header.getName())) {
+                logger.debug("{}: {}", header.getName(), Constants.HIDE);
+            } else {
+                logger.debug("{}: {}", header.getName(), header.getValue());
+            }
+        }
+
+        logger.debug(RB.$("webhook.data.send"));
+        try (CloseableHttpResponse response = pool.getHttpClient().execute(request)) {
             logger.debug(RB.$("webhook.response.handle"));
-            int status = connection.getResponseCode();
+            int status = response.getStatusLine().getStatusCode();
+            String message = null != response.getEntity() ? EntityUtils.toString(response.getEntity(), UTF_8) : null;
+            for (int tolerated : toleratedStatus) {
+                if (status == tolerated) return status;
+            }
             if (status >= 400) {
-                String reason = connection.getResponseMessage();
-                Reader reader = new InputStreamReader(connection.getErrorStream(), UTF_8);
-                String message = IOUtils.toString(reader);
-                StringBuilder b = new StringBuilder("Got ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason)
-                        .append(",");
-                }
-                if (isNotBlank(message)) {
-                    b.append(message);
-                }
-                throw new UploadException(b.toString());
+                throw new UploadException(errorMessage("Got ", status, response.getStatusLine().getReasonPhrase(), message));
             }
+            return status;
         } catch (IOException e) {
             logger.trace(e);
             throw new UploadException(e);
         }
     }
+
+    private static RequestConfig requestConfig(int connectTimeout, int readTimeout, boolean expectContinue) {
+        return RequestConfig.custom()
+            .setConnectTimeout(connectTimeout * 1000)
+            .setConnectionRequestTimeout(connectTimeout * 1000)
+            .setSocketTimeout(readTimeout * 1000)
+            .setExpectContinueEnabled(expectContinue)
+            .build();
+    }
+
+    private static String errorMessage(String prefix, int status, String reason, String message) {
+        StringBuilder b = new StringBuilder(prefix)
+            .append(status);
+        if (isNotBlank(reason)) {
+            b.append(" reason: ")
+                .append(reason)
+                .append(",");
+        }
+        if (isNotBlank(message)) {
+            b.append(message);
+        }
+        return b.toString();
+    }
+
+    private static ByteArrayEntity toEntity(FormData data) {
+        ContentType contentType = isNotBlank(data.getContentType()) ?
+            ContentType.parse(data.getContentType()) : ContentType.APPLICATION_OCTET_STREAM;
+        return new ByteArrayEntity(data.getData(), contentType);
+    }
+
+    private static final class PathEntity extends AbstractHttpEntity {
+        private final Path asset;
+
+        private PathEntity(Path asset) {
+            this.asset = asset;
+            try {
+                setContentType(MediaType.parse(TIKA.detect(asset)).toString());
+            } catch (IOException e) {
+                setContentType(ContentType.APPLICATION_OCTET_STREAM.getMimeType());
+            }
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            try {
+                return Files.size(asset);
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return Files.newInputStream(asset);
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = Files.newInputStream(asset)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+    }
+
+    private static final class MultipartFileEntity extends AbstractHttpEntity {
+        private final Path file;
+        private final byte[] head;
+        private final byte[] tail;
+
+        private MultipartFileEntity(String name, Path file) throws IOException {
+            this.file = file;
+            String boundary = "jreleaser-" + UUID.randomUUID().toString().replace("-", "");
+            String filename = file.getFileName().toString().replace("\"", "%22");
+            this.head = ("--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n" +
+                "Content-Type: " + MediaType.parse(TIKA.detect(file)) + "\r\n\r\n").getBytes(UTF_8);
+            this.tail = ("\r\n--" + boundary + "--\r\n").getBytes(UTF_8);
+            setContentType("multipart/form-data; boundary=" + boundary);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            try {
+                return head.length + Files.size(file) + tail.length;
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new SequenceInputStream(new ByteArrayInputStream(head),
+                new SequenceInputStream(Files.newInputStream(file), new ByteArrayInputStream(tail)));
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(head);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = Files.newInputStream(file)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            out.write(tail);
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.LaxRedirectStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserVersion;
+import org.jreleaser.util.Env;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Keep-alive HTTP connection pool shared by every SDK client created for the same {@code JReleaserContext}.
+ * Connections and TLS sessions are reused across releasers, announcers and uploaders.
+ * <p>
+ * Limits may be tuned with the {@code JRELEASER_HTTP_MAX_CONNECTIONS} and
+ * {@code JRELEASER_HTTP_MAX_CONNECTIONS_PER_HOST} environment variables.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class HttpClientPool implements Closeable {
+    private static final Map<JReleaserContext, HttpClientPool> POOLS = new WeakHashMap<>();
+    private static final int DEFAULT_MAX_CONNECTIONS = 50;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 10;
+    private static final long IDLE_TIMEOUT_SECONDS = 30;
+
+    private final CloseableHttpClient httpClient;
+    private final Client client;
+
+    private HttpClientPool(int maxConnections, int maxConnectionsPerHost) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+
+        this.httpClient = HttpClients.custom()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .setRedirectStrategy(LaxRedirectStrategy.INSTANCE)
+            .setUserAgent("JReleaser/" + JReleaserVersion.getPlainVersion())
+            .evictExpiredConnections()
+            .evictIdleConnections(IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .build();
+        this.client = new ApacheHttpClient(httpClient);
+    }
+
+    public static HttpClientPool of(JReleaserContext context) {
+        synchronized (POOLS) {
+            return POOLS.computeIfAbsent(context, c -> new HttpClientPool(
+                resolveLimit("HTTP_MAX_CONNECTIONS", DEFAULT_MAX_CONNECTIONS),
+                resolveLimit("HTTP_MAX_CONNECTIONS_PER_HOST", DEFAULT_MAX_CONNECTIONS_PER_HOST)));
+        }
+    }
+
+    /**
+     * Closes the pool of the given context, if any. A later call to {@link #of(JReleaserContext)} opens a new one.
+     */
+    public static void close(JReleaserContext context) {
+        HttpClientPool pool;
+        synchronized (POOLS) {
+            pool = POOLS.remove(context);
+        }
+
+        if (null != pool) {
+            try {
+                pool.close();
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+            }
+        }
+    }
+
+    public CloseableHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private static int resolveLimit(String key, int defaultValue) {
+        String value = Env.resolve(key, null);
+        if (isNotBlank(value)) {
+            try {
+                int limit = Integer.parseInt(value.trim());
+                if (limit > 0) return limit;
+            } catch (NumberFormatException ignored) {
+                // fall back to the default
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -21,6 +21,7 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Mastodon;
 import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
+import org.jreleaser.sdk.commons.HttpClientPool;
 
 /**
  * @author Andres Almiray
@@ -53,6 +54,7 @@ public class MastodonAnnouncer implements Announcer {
 
         try {
             MastodonSdk sdk = MastodonSdk.builder(context.getLogger())
+                .pool(HttpClientPool.of(context))
                 .host(mastodon.getHost())
                 .accessToken(mastodon.getResolvedAccessToken())
                 .connectTimeout(mastodon.getConnectTimeout())
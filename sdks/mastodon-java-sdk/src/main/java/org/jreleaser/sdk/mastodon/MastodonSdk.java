@@ -21,6 +21,7 @@ import feign.form.FormEncoder;
 import feign.jackson.JacksonEncoder;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.mastodon.api.MastodonAPI;
 import org.jreleaser.sdk.mastodon.api.Status;
@@ -40,6 +41,7 @@ public class MastodonSdk {
     private final boolean dryrun;
 
     private MastodonSdk(JReleaserLogger logger,
+                        HttpClientPool pool,
                         String host,
                         String accessToken,
                         int connectTimeout,
@@ -58,7 +60,7 @@ public class MastodonSdk {
 
         this.logger = logger;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(logger, pool, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder()))
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", accessToken)))
             .target(MastodonAPI.class, host);
@@ -87,6 +89,7 @@ public class MastodonSdk {
 
     static class Builder {
         private final JReleaserLogger logger;
+        private HttpClientPool pool;
         private boolean dryrun;
         private String accessToken;
         private String host;
@@ -97,6 +100,11 @@ public class MastodonSdk {
             this.logger = requireNonNull(logger, "'logger' must not be null");
         }
 
+        public Builder pool(HttpClientPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
         public Builder dryrun(boolean dryrun) {
             this.dryrun = dryrun;
             return this;
@@ -132,6 +140,7 @@ public class MastodonSdk {
 
             return new MastodonSdk(
                 logger,
+                pool,
                 host,
                 accessToken,
                 connectTimeout,
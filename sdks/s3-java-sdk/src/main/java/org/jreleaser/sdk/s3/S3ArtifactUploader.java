@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.s3;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
@@ -25,10 +26,8 @@ import com.amazonaws.auth.BasicSessionCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import com.amazonaws.services.s3.model.AccessControlList;
-import com.amazonaws.services.s3.model.GroupGrantee;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.Permission;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
@@ -37,12 +36,16 @@ import org.jreleaser.model.Artifact;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.S3;
 import org.jreleaser.model.uploader.spi.UploadException;
+import org.jreleaser.model.util.ArtifactMetadataRegistry;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
+import org.jreleaser.util.Algorithm;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +59,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
     private static final Tika TIKA = new Tika();
+    private static final String SHA_256_METADATA = "sha256";
     private S3 uploader;
 
     public S3ArtifactUploader(JReleaserContext context) {
@@ -86,7 +90,7 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
 
         String bucketName = uploader.getResolvedBucket();
 
-        AmazonS3 s3 = createS3Client();
+        AmazonS3 s3 = resolveS3Client();
 
         // does the bucket exist?
         context.getLogger().debug(RB.$("s3.bucket.check"), bucketName);
@@ -96,43 +100,101 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
             s3.createBucket(bucketName);
         }
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
-
+        long partSize = uploader.getPartSize() * 1024L * 1024L;
+        uploadArtifacts(artifacts, (artifact, path) -> {
             try {
                 String bucketPath = uploader.getResolvedPath(context, artifact);
                 context.getLogger().debug("   {}", bucketPath);
 
                 if (!context.isDryrun()) {
-                    context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
-                    if (s3.doesObjectExist(bucketName, bucketPath)) {
-                        context.getLogger().debug(RB.$("s3.object.create"), bucketName, bucketPath);
-                        s3.deleteObject(bucketName, bucketPath);
+                    ArtifactMetadataRegistry.Metadata metadata = context.getArtifactMetadata().of(path);
+                    long size = metadata.getSize();
+                    String sha256 = metadata.getDigest(Algorithm.SHA_256);
+
+                    if (uploader.isSync()) {
+                        context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
+                        if (isUnchanged(s3, bucketName, bucketPath, metadata, size, sha256)) {
+                            context.getLogger().debug(RB.$("s3.object.unchanged"), bucketName, bucketPath);
+                            return;
+                        }
                     }
 
                     ObjectMetadata meta = new ObjectMetadata();
-                    meta.setContentType(MediaType.parse(TIKA.detect(path)).toString());
-                    meta.setContentLength(Files.size(path));
-
-                    context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
-                    try (InputStream is = Files.newInputStream(path, READ)) {
-                        s3.putObject(new PutObjectRequest(bucketName, bucketPath, is, meta));
+                    meta.setContentType(metadata.getContentType(p -> MediaType.parse(TIKA.detect(p)).toString()));
+                    meta.addUserMetadata(SHA_256_METADATA, sha256);
+
+                    if (size > partSize) {
+                        new S3MultipartUpload(context.getLogger(), s3, uploader.getPartParallelism())
+                            .upload(bucketName, bucketPath, path, size, partSize, meta);
+                    } else {
+                        meta.setContentLength(size);
+                        context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
+                        // PUT replaces any existing object, the read grant travels with the request
+                        try (InputStream is = Files.newInputStream(path, READ)) {
+                            s3.putObject(new PutObjectRequest(bucketName, bucketPath, is, meta)
+                                .withCannedAcl(CannedAccessControlList.PublicRead));
+                        }
                     }
-
-                    context.getLogger().debug(RB.$("s3.object.acl"), bucketName, bucketPath);
-                    AccessControlList acl = s3.getObjectAcl(bucketName, bucketPath);
-                    acl.grantPermission(GroupGrantee.AllUsers, Permission.Read);
-                    s3.setObjectAcl(bucketName, bucketPath, acl);
                 }
-            } catch (IOException e) {
+            } catch (IOException | SdkClientException e) {
                 context.getLogger().trace(e);
                 throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
             }
+        });
+    }
+
+    private boolean isUnchanged(AmazonS3 s3, String bucketName, String bucketPath,
+                                ArtifactMetadataRegistry.Metadata metadata, long size, String sha256) throws IOException {
+        ObjectMetadata remote;
+        try {
+            remote = s3.getObjectMetadata(bucketName, bucketPath);
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) return false;
+            throw e;
+        }
+
+        if (remote.getContentLength() != size) return false;
+
+        String remoteSha256 = remote.getUserMetaDataOf(SHA_256_METADATA);
+        if (isNotBlank(remoteSha256)) {
+            return remoteSha256.equalsIgnoreCase(sha256);
+        }
+
+        // objects uploaded without digest metadata can still be matched by ETag,
+        // but only single part ETags are plain MD5 digests. MD5 is only calculated then
+        String etag = remote.getETag();
+        return isNotBlank(etag) && !etag.contains("-") &&
+            etag.replace("\"", "").equalsIgnoreCase(metadata.getDigest(Algorithm.MD5));
+    }
+
+    private AmazonS3 resolveS3Client() throws UploadException {
+        Map<String, String> headers = new LinkedHashMap<>(uploader.getHeaders());
+        List<Object> key = Arrays.asList(uploader.getResolvedAccessKeyId(),
+            uploader.getResolvedSecretKey(),
+            uploader.getResolvedSessionToken(),
+            uploader.getResolvedRegion(),
+            uploader.getResolvedEndpoint(),
+            uploader.isPathStyleAccess(),
+            headers,
+            uploader.getConnectTimeout(),
+            resolveMaxConnections());
+
+        // clients and their connection pools are shared by every artifact and uploader with the same settings
+        S3ClientPool pool = S3ClientPool.of(context);
+        AmazonS3 s3 = pool.get(key);
+        if (null == s3) {
+            s3 = pool.register(key, createS3Client(headers));
         }
+        return s3;
+    }
+
+    private int resolveMaxConnections() {
+        // enough connections for every concurrent artifact and part transfer
+        return Math.max(ClientConfiguration.DEFAULT_MAX_CONNECTIONS,
+            uploader.getParallelism() * uploader.getPartParallelism());
     }
 
-    private AmazonS3 createS3Client() throws UploadException {
+    private AmazonS3 createS3Client(Map<String, String> headers) throws UploadException {
         try {
             AmazonS3ClientBuilder s3Builder = AmazonS3ClientBuilder.standard();
             if (isNotBlank(uploader.getResolvedAccessKeyId()) &&
@@ -149,16 +211,14 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
                         uploader.getResolvedSecretKey())));
             }
 
-            Map<String, String> headers = uploader.getHeaders();
-            if (headers != null) {
-                ClientConfiguration clientConfiguration = new ClientConfiguration();
-                for (Map.Entry<String, String> header : headers.entrySet()) {
-                    if (header.getKey() != null && header.getValue() != null) {
-                        clientConfiguration.addHeader(header.getKey(), header.getValue());
-                    }
+            ClientConfiguration clientConfiguration = new ClientConfiguration();
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                if (header.getKey() != null && header.getValue() != null) {
+                    clientConfiguration.addHeader(header.getKey(), header.getValue());
                 }
-                s3Builder.setClientConfiguration(clientConfiguration);
             }
+            clientConfiguration.setMaxConnections(resolveMaxConnections());
+            s3Builder.setClientConfiguration(clientConfiguration);
 
             if (isBlank(uploader.getResolvedEndpoint())) {
                 s3Builder.withRegion(uploader.getResolvedRegion());
@@ -167,6 +227,8 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
                     new AwsClientBuilder.EndpointConfiguration(uploader.getResolvedEndpoint(),
                         uploader.getResolvedRegion()));
             }
+            // S3 compatible services such as MinIO may not support virtual-hosted-style addressing
+            s3Builder.withPathStyleAccessEnabled(uploader.isPathStyleAccess());
 
             s3Builder.getClientConfiguration()
                 .setConnectionTimeout(uploader.getConnectTimeout() * 1000);
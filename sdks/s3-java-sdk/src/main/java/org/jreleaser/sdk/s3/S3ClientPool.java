@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.jreleaser.model.JReleaserContext;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * S3 clients shared by every S3 uploader with the same settings for the same {@code JReleaserContext}.
+ * Clients hold their own connection pool and credentials, they are shut down once the context is closed.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class S3ClientPool implements Closeable {
+    private static final Map<JReleaserContext, S3ClientPool> POOLS = new WeakHashMap<>();
+
+    private final Map<List<Object>, AmazonS3> clients = new ConcurrentHashMap<>();
+
+    private S3ClientPool() {
+        // noop
+    }
+
+    public static S3ClientPool of(JReleaserContext context) {
+        synchronized (POOLS) {
+            return POOLS.computeIfAbsent(context, c -> new S3ClientPool());
+        }
+    }
+
+    /**
+     * Shuts down the clients of the given context, if any. A later call to {@link #of(JReleaserContext)}
+     * opens a new pool.
+     */
+    public static void close(JReleaserContext context) {
+        S3ClientPool pool;
+        synchronized (POOLS) {
+            pool = POOLS.remove(context);
+        }
+
+        if (null != pool) {
+            pool.close();
+        }
+    }
+
+    AmazonS3 get(List<Object> key) {
+        return clients.get(key);
+    }
+
+    /**
+     * Registers {@code client} under {@code key} unless another client got there first, in which case
+     * {@code client} is shut down and the existing one is returned.
+     */
+    AmazonS3 register(List<Object> key, AmazonS3 client) {
+        AmazonS3 existing = clients.putIfAbsent(key, client);
+        if (null != existing) {
+            client.shutdown();
+            return existing;
+        }
+        return client;
+    }
+
+    @Override
+    public void close() {
+        for (AmazonS3 client : clients.values()) {
+            client.shutdown();
+        }
+        clients.clear();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.util.ConcurrentUtils;
+import org.jreleaser.util.JReleaserLogger;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uploads a file as a multipart S3 object, sending parts concurrently and retrying failed parts.
+ * The upload is aborted if any part ultimately fails so that no orphaned parts are left behind.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+final class S3MultipartUpload {
+    // S3 rejects multipart uploads with more parts than this
+    static final int MAX_PARTS = 10000;
+    static final int MAX_PART_ATTEMPTS = 3;
+
+    private final JReleaserLogger logger;
+    private final AmazonS3 s3;
+    private final int parallelism;
+    private final long retryDelay;
+
+    S3MultipartUpload(JReleaserLogger logger, AmazonS3 s3, int parallelism) {
+        this(logger, s3, parallelism, 1000L);
+    }
+
+    S3MultipartUpload(JReleaserLogger logger, AmazonS3 s3, int parallelism, long retryDelay) {
+        this.logger = logger;
+        this.s3 = s3;
+        this.parallelism = parallelism;
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Returns {@code partSize}, grown as needed so that {@code size} bytes fit in {@link #MAX_PARTS} parts.
+     */
+    static long resolvePartSize(long size, long partSize) {
+        return Math.max(partSize, (size + MAX_PARTS - 1) / MAX_PARTS);
+    }
+
+    void upload(String bucketName, String bucketPath, Path path, long size, long partSize, ObjectMetadata meta) {
+        long effectivePartSize = resolvePartSize(size, partSize);
+        List<Integer> partNumbers = new ArrayList<>();
+        for (int partNumber = 1; (partNumber - 1) * effectivePartSize < size; partNumber++) {
+            partNumbers.add(partNumber);
+        }
+
+        logger.debug(RB.$("s3.object.write.multipart"), bucketName, bucketPath, partNumbers.size());
+        String uploadId = s3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, bucketPath, meta)
+                .withCannedACL(CannedAccessControlList.PublicRead))
+            .getUploadId();
+
+        try {
+            List<PartETag> partETags = ConcurrentUtils.mapAll("s3-part", parallelism, partNumbers,
+                partNumber -> {
+                    long offset = (partNumber - 1) * effectivePartSize;
+                    UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(bucketPath)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withFile(path.toFile())
+                        .withFileOffset(offset)
+                        .withPartSize(Math.min(effectivePartSize, size - offset));
+                    return uploadPart(request).getPartETag();
+                });
+
+            s3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, bucketPath, uploadId, partETags));
+        } catch (RuntimeException e) {
+            logger.debug(RB.$("s3.object.write.abort"), bucketName, bucketPath);
+            try {
+                s3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, bucketPath, uploadId));
+            } catch (SdkClientException x) {
+                e.addSuppressed(x);
+            }
+            throw e;
+        }
+    }
+
+    private UploadPartResult uploadPart(UploadPartRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return s3.uploadPart(request);
+            } catch (SdkClientException e) {
+                if (attempt >= MAX_PART_ATTEMPTS || !e.isRetryable()) throw e;
+                logger.debug(RB.$("s3.object.write.retry"), request.getPartNumber(),
+                    request.getBucketName(), request.getKey(), attempt + 1, MAX_PART_ATTEMPTS);
+                try {
+                    Thread.sleep(attempt * retryDelay);
+                } catch (InterruptedException x) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class S3MultipartUploadTest {
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testPartSizeIsKeptWithinPartLimit() {
+        // given:
+        long partSize = 5 * 1024 * 1024;
+
+        // expect:
+        assertThat(S3MultipartUpload.resolvePartSize(partSize * 3, partSize), equalTo(partSize));
+        assertThat(S3MultipartUpload.resolvePartSize(partSize * S3MultipartUpload.MAX_PARTS, partSize), equalTo(partSize));
+        assertThat(S3MultipartUpload.resolvePartSize(partSize * S3MultipartUpload.MAX_PARTS + 1, partSize), equalTo(partSize + 1));
+    }
+
+    @Test
+    public void testUploadsAllPartsAndCompletes() throws Exception {
+        // given:
+        Path file = createFile(25);
+        FakeS3 s3 = new FakeS3(partNumber -> false);
+
+        // when:
+        new S3MultipartUpload(logger(), s3, 2, 0L)
+            .upload("bucket", "key", file, 25, 10, new ObjectMetadata());
+
+        // then:
+        assertThat(s3.partSizes.get(1), equalTo(10L));
+        assertThat(s3.partSizes.get(2), equalTo(10L));
+        assertThat(s3.partSizes.get(3), equalTo(5L));
+        assertThat(s3.partOffsets.get(3), equalTo(20L));
+        assertThat(s3.completedParts, contains(1, 2, 3));
+        assertThat(s3.aborted.get(), equalTo(0));
+    }
+
+    @Test
+    public void testRetriesFailedPart() throws Exception {
+        // given:
+        Path file = createFile(25);
+        AtomicInteger failures = new AtomicInteger();
+        FakeS3 s3 = new FakeS3(partNumber -> partNumber == 2 && failures.getAndIncrement() == 0);
+
+        // when:
+        new S3MultipartUpload(logger(), s3, 1, 0L)
+            .upload("bucket", "key", file, 25, 10, new ObjectMetadata());
+
+        // then:
+        assertThat(s3.attempts.get(2).get(), equalTo(2));
+        assertThat(s3.completedParts, contains(1, 2, 3));
+        assertThat(s3.aborted.get(), equalTo(0));
+    }
+
+    @Test
+    public void testAbortsWhenPartKeepsFailing() throws Exception {
+        // given:
+        Path file = createFile(25);
+        FakeS3 s3 = new FakeS3(partNumber -> partNumber == 2);
+
+        // when:
+        SdkClientException e = assertThrows(SdkClientException.class, () -> new S3MultipartUpload(logger(), s3, 1, 0L)
+            .upload("bucket", "key", file, 25, 10, new ObjectMetadata()));
+
+        // then:
+        assertThat(e, sameInstance(s3.failure));
+        assertThat(s3.attempts.get(2).get(), equalTo(S3MultipartUpload.MAX_PART_ATTEMPTS));
+        assertThat(s3.completedParts, nullValue());
+        assertThat(s3.aborted.get(), equalTo(1));
+    }
+
+    private Path createFile(int size) throws Exception {
+        return Files.write(tmp.resolve("artifact.bin"), new byte[size]);
+    }
+
+    private SimpleJReleaserLoggerAdapter logger() {
+        return new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.DEBUG);
+    }
+
+    private static class FakeS3 extends AbstractAmazonS3 {
+        private final IntPredicate failing;
+        private final Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        private final Map<Integer, Long> partOffsets = new ConcurrentHashMap<>();
+        private final Map<Integer, Long> partSizes = new ConcurrentHashMap<>();
+        private final AtomicInteger aborted = new AtomicInteger();
+        private volatile SdkClientException failure;
+        private volatile List<Integer> completedParts;
+
+        private FakeS3(IntPredicate failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId("upload-1");
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            int partNumber = request.getPartNumber();
+            attempts.computeIfAbsent(partNumber, k -> new AtomicInteger()).incrementAndGet();
+            if (failing.test(partNumber)) {
+                failure = new SdkClientException("part " + partNumber + " failed");
+                throw failure;
+            }
+
+            partOffsets.put(partNumber, request.getFileOffset());
+            partSizes.put(partNumber, request.getPartSize());
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(partNumber);
+            result.setETag("etag-" + partNumber);
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            List<Integer> parts = new ArrayList<>();
+            for (PartETag partETag : request.getPartETags()) {
+                parts.add(partETag.getPartNumber());
+            }
+            completedParts = parts;
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted.incrementAndGet();
+        }
+    }
+}
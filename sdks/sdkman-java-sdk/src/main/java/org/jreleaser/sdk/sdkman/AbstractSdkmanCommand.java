@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.sdkman;
 
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.JReleaserLogger;
 
 import static java.util.Objects.requireNonNull;
@@ -33,6 +34,7 @@ abstract class AbstractSdkmanCommand implements SdkmanCommand {
     protected final Sdkman sdkman;
 
     protected AbstractSdkmanCommand(JReleaserLogger logger,
+                                    HttpClientPool pool,
                                     String apiHost,
                                     int connectTimeout,
                                     int readTimeout,
@@ -41,7 +43,7 @@ abstract class AbstractSdkmanCommand implements SdkmanCommand {
                                     String candidate,
                                     String version,
                                     boolean dryrun) {
-        this.sdkman = new Sdkman(logger, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, dryrun);
+        this.sdkman = new Sdkman(logger, pool, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, dryrun);
         this.candidate = candidate;
         this.version = version;
         this.dryrun = dryrun;
@@ -49,6 +51,7 @@ abstract class AbstractSdkmanCommand implements SdkmanCommand {
 
     static class Builder<S extends Builder<S>> {
         protected final JReleaserLogger logger;
+        protected HttpClientPool pool;
         protected boolean dryrun;
         protected boolean skipAnnounce;
         protected String consumerKey;
@@ -68,6 +71,14 @@ abstract class AbstractSdkmanCommand implements SdkmanCommand {
             return (S) this;
         }
 
+        /**
+         * Connection pool shared with other clients, optional
+         */
+        public S pool(HttpClientPool pool) {
+            this.pool = pool;
+            return self();
+        }
+
         public S dryrun(boolean dryrun) {
             this.dryrun = dryrun;
             return self();
@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.sdkman;
 
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.JReleaserLogger;
 
 import static org.jreleaser.util.StringUtils.requireNonBlank;
@@ -30,6 +31,7 @@ public class AnnounceSdkmanCommand extends AbstractSdkmanCommand {
     private final String releaseNotesUrl;
 
     private AnnounceSdkmanCommand(JReleaserLogger logger,
+                                  HttpClientPool pool,
                                   String apiHost,
                                   int connectTimeout,
                                   int readTimeout,
@@ -40,7 +42,7 @@ public class AnnounceSdkmanCommand extends AbstractSdkmanCommand {
                                   boolean dryrun,
                                   String hashtag,
                                   String releaseNotesUrl) {
-        super(logger, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, candidate, version, dryrun);
+        super(logger, pool, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, candidate, version, dryrun);
         this.hashtag = hashtag;
         this.releaseNotesUrl = releaseNotesUrl;
     }
@@ -87,6 +89,7 @@ public class AnnounceSdkmanCommand extends AbstractSdkmanCommand {
 
             return new AnnounceSdkmanCommand(
                 logger,
+                pool,
                 apiHost,
                 connectTimeout,
                 readTimeout,
@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.sdkman;
 
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.JReleaserLogger;
 
 import static org.jreleaser.util.StringUtils.requireNonBlank;
@@ -27,6 +28,7 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
  */
 public class DefaultSdkmanCommand extends AbstractSdkmanCommand {
     private DefaultSdkmanCommand(JReleaserLogger logger,
+                                 HttpClientPool pool,
                                  String apiHost,
                                  int connectTimeout,
                                  int readTimeout,
@@ -35,7 +37,7 @@ public class DefaultSdkmanCommand extends AbstractSdkmanCommand {
                                  String candidate,
                                  String version,
                                  boolean dryrun) {
-        super(logger, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, candidate, version, dryrun);
+        super(logger, pool, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, candidate, version, dryrun);
     }
 
     @Override
@@ -61,6 +63,7 @@ public class DefaultSdkmanCommand extends AbstractSdkmanCommand {
 
             return new DefaultSdkmanCommand(
                 logger,
+                pool,
                 apiHost,
                 connectTimeout,
                 readTimeout,
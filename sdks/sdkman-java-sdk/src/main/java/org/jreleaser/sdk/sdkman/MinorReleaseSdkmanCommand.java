@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.sdkman;
 
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.JReleaserLogger;
 
 import java.util.LinkedHashMap;
@@ -37,6 +38,7 @@ public class MinorReleaseSdkmanCommand extends AbstractSdkmanCommand {
     private final Map<String, String> platforms = new LinkedHashMap<>();
 
     private MinorReleaseSdkmanCommand(JReleaserLogger logger,
+                                      HttpClientPool pool,
                                       String apiHost,
                                       int connectTimeout,
                                       int readTimeout,
@@ -49,7 +51,7 @@ public class MinorReleaseSdkmanCommand extends AbstractSdkmanCommand {
                                       String hashtag,
                                       String releaseNotesUrl,
                                       Map<String, String> platforms) {
-        super(logger, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, candidate, version, dryrun);
+        super(logger, pool, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, candidate, version, dryrun);
         this.skipAnnounce = skipAnnounce;
         this.hashtag = hashtag;
         this.releaseNotesUrl = releaseNotesUrl;
@@ -144,6 +146,7 @@ public class MinorReleaseSdkmanCommand extends AbstractSdkmanCommand {
 
             return new MinorReleaseSdkmanCommand(
                 logger,
+                pool,
                 apiHost,
                 connectTimeout,
                 readTimeout,
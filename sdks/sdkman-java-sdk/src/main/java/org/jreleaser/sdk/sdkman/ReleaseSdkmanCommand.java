@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.sdkman;
 
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.JReleaserLogger;
 
 import java.util.LinkedHashMap;
@@ -34,6 +35,7 @@ public class ReleaseSdkmanCommand extends AbstractSdkmanCommand {
     private final Map<String, String> platforms = new LinkedHashMap<>();
 
     private ReleaseSdkmanCommand(JReleaserLogger logger,
+                                 HttpClientPool pool,
                                  String apiHost,
                                  int connectTimeout,
                                  int readTimeout,
@@ -43,7 +45,7 @@ public class ReleaseSdkmanCommand extends AbstractSdkmanCommand {
                                  String version,
                                  boolean dryrun,
                                  Map<String, String> platforms) {
-        super(logger, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, candidate, version, dryrun);
+        super(logger, pool, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, candidate, version, dryrun);
         this.platforms.putAll(platforms);
     }
 
@@ -117,6 +119,7 @@ public class ReleaseSdkmanCommand extends AbstractSdkmanCommand {
 
             return new ReleaseSdkmanCommand(
                 logger,
+                pool,
                 apiHost,
                 connectTimeout,
                 readTimeout,
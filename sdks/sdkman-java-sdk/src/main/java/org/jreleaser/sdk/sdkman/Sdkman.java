@@ -23,6 +23,7 @@ import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.JReleaserVersion;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.sdkman.api.Announce;
 import org.jreleaser.sdk.sdkman.api.Candidate;
 import org.jreleaser.sdk.sdkman.api.Release;
@@ -52,6 +53,17 @@ public class Sdkman {
                   String consumerKey,
                   String consumerToken,
                   boolean dryrun) {
+        this(logger, null, apiHost, connectTimeout, readTimeout, consumerKey, consumerToken, dryrun);
+    }
+
+    public Sdkman(JReleaserLogger logger,
+                  HttpClientPool pool,
+                  String apiHost,
+                  int connectTimeout,
+                  int readTimeout,
+                  String consumerKey,
+                  String consumerToken,
+                  boolean dryrun) {
         requireNonNull(logger, "'logger' must not be null");
         requireNonBlank(apiHost, "'apiHost' must not be blank");
         requireNonBlank(consumerKey, "'consumerKey' must not be blank");
@@ -59,7 +71,9 @@ public class Sdkman {
 
         this.logger = logger;
         this.dryrun = dryrun;
-        this.api = Feign.builder()
+        Feign.Builder builder = Feign.builder();
+        if (null != pool) builder.client(pool.getClient());
+        this.api = builder
             .encoder(new JacksonEncoder())
             .decoder(new JacksonDecoder())
             .requestInterceptor(template -> {
@@ -24,6 +24,7 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Sdkman;
 import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
+import org.jreleaser.sdk.commons.HttpClientPool;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -90,6 +91,7 @@ public class SdkmanAnnouncer implements Announcer {
             context.getLogger().info(RB.$("sdkman.release.announce"), command, candidate);
             try {
                 AnnounceSdkmanCommand.builder(context.getLogger())
+                    .pool(HttpClientPool.of(context))
                     .connectTimeout(sdkman.getConnectTimeout())
                     .readTimeout(sdkman.getReadTimeout())
                     .consumerKey(context.isDryrun() ? "**UNDEFINED**" : sdkman.getResolvedConsumerKey())
@@ -135,6 +137,7 @@ public class SdkmanAnnouncer implements Announcer {
             if (sdkman.isMajor()) {
                 context.getLogger().info(RB.$("sdkman.release.announce.major"), candidate);
                 MajorReleaseSdkmanCommand.builder(context.getLogger())
+                    .pool(HttpClientPool.of(context))
                     .connectTimeout(sdkman.getConnectTimeout())
                     .readTimeout(sdkman.getReadTimeout())
                     .consumerKey(context.isDryrun() ? "**UNDEFINED**" : sdkman.getResolvedConsumerKey())
@@ -149,6 +152,7 @@ public class SdkmanAnnouncer implements Announcer {
             } else {
                 context.getLogger().info(RB.$("sdkman.release.announce.minor"), candidate);
                 MinorReleaseSdkmanCommand.builder(context.getLogger())
+                    .pool(HttpClientPool.of(context))
                     .connectTimeout(sdkman.getConnectTimeout())
                     .readTimeout(sdkman.getReadTimeout())
                     .consumerKey(context.isDryrun() ? "**UNDEFINED**" : sdkman.getResolvedConsumerKey())
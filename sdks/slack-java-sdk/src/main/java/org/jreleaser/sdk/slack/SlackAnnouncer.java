@@ -22,6 +22,7 @@ import org.jreleaser.model.Slack;
 import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.slack.api.Message;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.MustacheUtils;
@@ -75,6 +76,7 @@ public class SlackAnnouncer implements Announcer {
             context.getLogger().info("channel: {}", slack.getChannel());
             try {
                 SlackSdk sdk = SlackSdk.builder(context.getLogger())
+                    .pool(HttpClientPool.of(context))
                     .connectTimeout(slack.getConnectTimeout())
                     .readTimeout(slack.getReadTimeout())
                     .token(context.isDryrun() ? "**UNDEFINED**" : slack.getResolvedToken())
@@ -91,6 +93,7 @@ public class SlackAnnouncer implements Announcer {
         if (isNotBlank(slack.getResolvedWebhook()) && !context.isDryrun()) {
             try {
                 ClientUtils.webhook(context.getLogger(),
+                    HttpClientPool.of(context),
                     slack.getResolvedWebhook(),
                     slack.getConnectTimeout(),
                     slack.getReadTimeout(),
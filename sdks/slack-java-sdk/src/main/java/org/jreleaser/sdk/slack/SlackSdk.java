@@ -19,6 +19,7 @@ package org.jreleaser.sdk.slack;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.slack.api.Message;
 import org.jreleaser.sdk.slack.api.SlackAPI;
 import org.jreleaser.sdk.slack.api.SlackResponse;
@@ -41,6 +42,7 @@ public class SlackSdk {
     private final boolean dryrun;
 
     private SlackSdk(JReleaserLogger logger,
+                     HttpClientPool pool,
                      String token,
                      String apiHost,
                      int connectTimeout,
@@ -51,7 +53,7 @@ public class SlackSdk {
 
         this.logger = logger;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(logger, pool, connectTimeout, readTimeout)
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", token)))
             .target(SlackAPI.class, apiHost);
 
@@ -90,6 +92,7 @@ public class SlackSdk {
 
     static class Builder {
         private final JReleaserLogger logger;
+        private HttpClientPool pool;
         private boolean dryrun;
         private String token;
         private String apiHost;
@@ -100,6 +103,11 @@ public class SlackSdk {
             this.logger = requireNonNull(logger, "'logger' must not be null");
         }
 
+        public Builder pool(HttpClientPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
         public Builder dryrun(boolean dryrun) {
             this.dryrun = dryrun;
             return this;
@@ -139,6 +147,7 @@ public class SlackSdk {
 
             return new SlackSdk(
                 logger,
+                pool,
                 token,
                 apiHost,
                 connectTimeout,
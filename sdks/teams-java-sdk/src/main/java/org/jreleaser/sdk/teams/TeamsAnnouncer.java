@@ -23,6 +23,7 @@ import org.jreleaser.model.Teams;
 import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.Constants;
 
 import java.util.LinkedHashMap;
@@ -64,6 +65,7 @@ public class TeamsAnnouncer implements Announcer {
 
         if (!context.isDryrun()) {
             ClientUtils.webhook(context.getLogger(),
+                HttpClientPool.of(context),
                 teams.getResolvedWebhook(),
                 teams.getConnectTimeout(),
                 teams.getReadTimeout(),
@@ -21,6 +21,7 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Telegram;
 import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.MustacheUtils;
 
@@ -69,6 +70,7 @@ public class TelegramAnnouncer implements Announcer {
 
         try {
             TelegramSdk sdk = TelegramSdk.builder(context.getLogger())
+                .pool(HttpClientPool.of(context))
                 .token(telegram.getResolvedToken())
                 .connectTimeout(telegram.getConnectTimeout())
                 .readTimeout(telegram.getReadTimeout())
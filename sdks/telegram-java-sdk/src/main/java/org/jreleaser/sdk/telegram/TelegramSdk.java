@@ -19,6 +19,7 @@ package org.jreleaser.sdk.telegram;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.telegram.api.Message;
 import org.jreleaser.sdk.telegram.api.TelegramAPI;
@@ -37,6 +38,7 @@ public class TelegramSdk {
     private final boolean dryrun;
 
     private TelegramSdk(JReleaserLogger logger,
+                        HttpClientPool pool,
                         String token,
                         int connectTimeout,
                         int readTimeout,
@@ -46,7 +48,7 @@ public class TelegramSdk {
 
         this.logger = logger;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(logger, pool, connectTimeout, readTimeout)
             .target(TelegramAPI.class, "https://api.telegram.org/bot" + token);
 
         this.logger.debug(RB.$("workflow.dryrun"), dryrun);
@@ -75,6 +77,7 @@ public class TelegramSdk {
 
     static class Builder {
         private final JReleaserLogger logger;
+        private HttpClientPool pool;
         private boolean dryrun;
         private String token;
         private int connectTimeout = 20;
@@ -84,6 +87,11 @@ public class TelegramSdk {
             this.logger = requireNonNull(logger, "'logger' must not be null");
         }
 
+        public Builder pool(HttpClientPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
         public Builder dryrun(boolean dryrun) {
             this.dryrun = dryrun;
             return this;
@@ -113,6 +121,7 @@ public class TelegramSdk {
 
             return new TelegramSdk(
                 logger,
+                pool,
                 token,
                 connectTimeout,
                 readTimeout,
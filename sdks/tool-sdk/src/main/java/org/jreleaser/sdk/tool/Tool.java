@@ -18,6 +18,7 @@
 package org.jreleaser.sdk.tool;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.util.Env;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.JReleaserLogger;
 import org.jreleaser.util.command.Command;
@@ -25,7 +26,6 @@ import org.jreleaser.util.command.CommandException;
 import org.jreleaser.util.command.CommandExecutor;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -145,7 +145,7 @@ public class Tool {
             return;
         }
 
-        Path caches = resolveJReleaserCacheDir();
+        Path caches = Env.resolveJReleaserCacheDir();
         Path dest = caches.resolve(name).resolve(version);
 
         boolean unpack = Boolean.parseBoolean(properties.getProperty(UNPACK));
@@ -218,13 +218,4 @@ public class Tool {
             throw new CommandException(RB.$("ERROR_command_execution_exit_value", exitValue));
         }
     }
-
-    private Path resolveJReleaserCacheDir() {
-        String home = System.getenv("JRELEASER_USER_HOME");
-        if (isBlank(home)) {
-            home = System.getProperty("user.home") + File.separator + ".jreleaser";
-        }
-
-        return Paths.get(home).resolve("caches");
-    }
 }
@@ -25,6 +25,7 @@ import org.jreleaser.model.Webhook;
 import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.CollectionUtils;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.MustacheUtils;
@@ -95,6 +96,7 @@ public class WebhooksAnnouncer implements Announcer {
 
         if (!context.isDryrun()) {
             ClientUtils.webhook(context.getLogger(),
+                HttpClientPool.of(context),
                 webhook.getResolvedWebhook(),
                 webhook.getConnectTimeout(),
                 webhook.getReadTimeout(),
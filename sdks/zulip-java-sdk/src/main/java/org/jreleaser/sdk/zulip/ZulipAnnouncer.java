@@ -21,6 +21,7 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Zulip;
 import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.MustacheUtils;
 
@@ -71,6 +72,7 @@ public class ZulipAnnouncer implements Announcer {
 
         try {
             ZulipSdk sdk = ZulipSdk.builder(context.getLogger())
+                .pool(HttpClientPool.of(context))
                 .apiHost(zulip.getApiHost())
                 .account(zulip.getAccount())
                 .apiKey(context.isDryrun() ? "**UNDEFINED**" : zulip.getResolvedApiKey())
@@ -22,6 +22,7 @@ import feign.form.FormEncoder;
 import feign.jackson.JacksonEncoder;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpClientPool;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.zulip.api.Message;
 import org.jreleaser.sdk.zulip.api.ZulipAPI;
@@ -40,6 +41,7 @@ public class ZulipSdk {
     private final boolean dryrun;
 
     private ZulipSdk(JReleaserLogger logger,
+                     HttpClientPool pool,
                      String apiHost,
                      String account,
                      String apiKey,
@@ -53,7 +55,7 @@ public class ZulipSdk {
 
         this.logger = logger;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(logger, pool, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder()))
             .requestInterceptor(new BasicAuthRequestInterceptor(account, apiKey))
             .target(ZulipAPI.class, apiHost);
@@ -84,6 +86,7 @@ public class ZulipSdk {
 
     static class Builder {
         private final JReleaserLogger logger;
+        private HttpClientPool pool;
         private boolean dryrun;
         private String account;
         private String apiKey;
@@ -95,6 +98,11 @@ public class ZulipSdk {
             this.logger = requireNonNull(logger, "'logger' must not be null");
         }
 
+        public Builder pool(HttpClientPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
         public Builder dryrun(boolean dryrun) {
             this.dryrun = dryrun;
             return this;
@@ -136,6 +144,7 @@ public class ZulipSdk {
 
             return new ZulipSdk(
                 logger,
+                pool,
                 apiHost,
                 account,
                 apiKey,